@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+ * 저널 교체(rotate)와 다시 적용(replay)에서 레코드가 빠지거나 두 번 적용되지 않는지 확인합니다.
+ * 압축이 중간에 실패하면 data.journal.1이 남으므로, 다음 압축은 그 뒤에 현재 저널을 이어 붙여야 합니다.
+ */
+class ChangeJournalTest {
+    @TempDir
+    Path directory;
+
+    private static List<String> lectureNames(DataRepository repository) {
+        List<String> names = new ArrayList<>();
+        for (Lecture lecture : repository.getLectures()) {
+            names.add(lecture.getName());
+        }
+        return names;
+    }
+
+    @Test
+    void rotateWithLeftoverRotatedFile() throws Exception {
+        ChangeJournal journal = new ChangeJournal(directory.resolve(DataFiles.JOURNAL_NAME));
+        DataRepository repository = new DataRepository();
+        journal.open(1);
+        repository.setJournal(journal);
+
+        repository.addLecture(new Lecture(1, "2024", "A", "월1"));
+        repository.addLecture(new Lecture(2, "2024", "B", "화2"));
+        journal.rotate(); // 스냅샷 저장이 실패해 data.journal.1이 남은 경우
+        assertTrue(Files.exists(journal.getRotatedFile()));
+
+        repository.addLecture(new Lecture(3, "2024", "C", "수3"));
+        repository.removeLecture("A");
+        journal.rotate(); // 남아 있는 data.journal.1 뒤에 이어 붙임
+        assertEquals(0, journal.getEntryCount());
+
+        repository.addLecture(new Lecture(4, "2024", "D", "목4"));
+        journal.close();
+
+        List<ChangeJournal.Entry> entries = DataFiles.readJournal(
+                Arrays.asList(journal.getRotatedFile(), journal.getFile()), 0);
+        assertEquals(5, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(i + 1, entries.get(i).sequence);
+        }
+
+        DataRepository restored = new DataRepository();
+        long sequence = DataFiles.read(restored, directory.resolve(DataFiles.SNAPSHOT_NAME),
+                                       directory.resolve(DataFiles.TEXT_NAME), journal);
+        assertEquals(5, sequence);
+        assertEquals(Arrays.asList("B", "C", "D"), lectureNames(restored));
+    }
+
+    @Test
+    void reopenAfterRotateContinuesSequence() throws Exception {
+        ChangeJournal journal = new ChangeJournal(directory.resolve(DataFiles.JOURNAL_NAME));
+        DataRepository repository = new DataRepository();
+        journal.open(1);
+        repository.setJournal(journal);
+
+        repository.addLecture(new Lecture(1, "2024", "A", "월1"));
+        journal.rotate();
+        repository.addLecture(new Lecture(2, "2024", "B", "화2"));
+        journal.close();
+
+        // 다시 시작하면 남아 있는 data.journal.1과 data.journal을 모두 적용한 뒤 이어서 기록합니다.
+        DataRepository restored = new DataRepository();
+        DataFiles.load(restored, directory.resolve(DataFiles.SNAPSHOT_NAME), directory.resolve(DataFiles.TEXT_NAME), journal);
+        assertEquals(Arrays.asList("A", "B"), lectureNames(restored));
+        assertEquals(2, journal.lastSequence());
+
+        journal.rotate();
+        restored.addLecture(new Lecture(3, "2024", "C", "수3"));
+        journal.close();
+
+        DataRepository again = new DataRepository();
+        DataFiles.read(again, directory.resolve(DataFiles.SNAPSHOT_NAME), directory.resolve(DataFiles.TEXT_NAME), journal);
+        assertEquals(Arrays.asList("A", "B", "C"), lectureNames(again));
+    }
+}
@@ -0,0 +1,93 @@
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * 성적 조회 패널의 필터가 성적 삭제 후에도 맞는 행을 표시하는지 확인합니다.
+ * 성적을 삭제하면 마지막 행이 빈 자리로 옮겨지므로 (GradeStore.remove 참고)
+ * 필터링된 행 번호를 그대로 두면 다른 강의의 성적이 표시됩니다.
+ */
+class GradeQueryPanelTest {
+
+    private static DataRepository createRepository() {
+        DataRepository repository = new DataRepository();
+        String[][] enrollments = {{"C", "c1"}, {"A", "a1"}, {"A", "a2"}, {"B", "b1"}, {"B", "b2"}, {"C", "c2"}};
+        for (String lecture : new String[]{"A", "B", "C"}) {
+            repository.addLecture(new Lecture(repository.getLectures().size() + 1, "2024", lecture, "월1"));
+        }
+        for (String[] enrollment : enrollments) {
+            repository.addStudent(new Student(repository.getStudents().size() + 1, enrollment[0], "2024",
+                                              enrollment[1], "id-" + enrollment[1]));
+            repository.addGrade(repository.getGrades().size() + 1, enrollment[0], "2024", enrollment[1], 50, 60, 70);
+        }
+        return repository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T field(Object object, String name) throws ReflectiveOperationException {
+        Field field = object.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return (T) field.get(object);
+    }
+
+    /*
+     * 표시 중인 행이 모두 lectureName의 성적이고 그 수가 count인지 확인합니다.
+     */
+    private static void assertShows(JTable table, String lectureName, int count) {
+        assertEquals(count, table.getRowCount());
+        for (int row = 0; row < table.getRowCount(); row++) {
+            assertEquals(lectureName, table.getValueAt(row, 1));
+        }
+    }
+
+    @Test
+    void lectureFilterAfterCascadeDelete() throws Exception {
+        DataRepository repository = createRepository();
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                GradeQueryPanel panel = new GradeQueryPanel(repository);
+                JComboBox<String> lectureComboBox = field(panel, "lectureComboBox");
+                JTable table = field(panel, "gradeTable");
+
+                lectureComboBox.setSelectedItem("A");
+                assertShows(table, "A", 2);
+
+                repository.removeLecture("C"); // 강의 C의 성적 자리에 B의 성적이 옮겨짐
+                assertShows(table, "A", 2);
+
+                repository.removeStudent("a1");
+                assertShows(table, "A", 1);
+            } catch (ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+
+    @Test
+    void conditionFilterAfterStudentDelete() throws Exception {
+        DataRepository repository = createRepository();
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                GradeQueryPanel panel = new GradeQueryPanel(repository);
+                JTextField conditionField = field(panel, "conditionField");
+                JTable table = field(panel, "gradeTable");
+
+                conditionField.setText("강의명=B");
+                conditionField.postActionEvent();
+                assertShows(table, "B", 2);
+
+                conditionField.setText("평균<"); // 적용하지 않은 잘못된 조건은 다시 읽지 않음
+                repository.removeStudent("c1");
+                assertShows(table, "B", 2);
+
+                repository.removeStudent("b1");
+                assertShows(table, "B", 1);
+            } catch (ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,62 @@
+import java.util.SplittableRandom;
+
+/*
+ * 벤치마크용 데이터를 만드는 클래스입니다.
+ * 같은 행 수와 시드(SEED)로는 항상 같은 데이터가 만들어지므로 측정값을 서로 비교할 수 있습니다.
+ *
+ * 데이터 구성
+ * - 강의 하나에 STUDENTS_PER_LECTURE명이 수강하고, 수강 정보마다 성적이 하나씩 있습니다. (성적 수 = 행 수)
+ * - 강의는 YEARS개 기준년도에 번갈아 배정됩니다.
+ * - 학생 이름과 학번은 NAME_POOL개 중에서 반복되므로 한 학생이 여러 강의를 수강합니다.
+ */
+public class BenchmarkData {
+    public static final long SEED = 20241224L;
+    public static final int STUDENTS_PER_LECTURE = 100;
+    public static final int YEARS = 10;
+    public static final int FIRST_YEAR = 2015;
+    public static final int NAME_POOL = 100000; // STUDENTS_PER_LECTURE의 배수 (강의 안에서 이름이 겹치지 않음)
+
+    private BenchmarkData() {}
+
+    public static String lectureName(int lecture) {
+        return "강의" + lecture;
+    }
+
+    public static String year(int lecture) {
+        return String.valueOf(FIRST_YEAR + lecture % YEARS);
+    }
+
+    public static String studentName(int row) {
+        return "학생" + row % NAME_POOL;
+    }
+
+    public static int lectureCount(int rows) {
+        return (rows + STUDENTS_PER_LECTURE - 1) / STUDENTS_PER_LECTURE;
+    }
+
+    /*
+     * 빈 저장소에 rows개의 성적과 그에 맞는 강의, 수강 정보를 추가합니다.
+     */
+    public static DataRepository fill(DataRepository repository, int rows) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        repository.beginBatch();
+        try {
+            for (int row = 0; row < rows; row++) {
+                int lecture = row / STUDENTS_PER_LECTURE;
+                String lectureName = repository.intern(lectureName(lecture));
+                String year = repository.intern(year(lecture));
+                if (row % STUDENTS_PER_LECTURE == 0) {
+                    repository.addLecture(new Lecture(lecture + 1, year, lectureName, repository.intern("월" + (lecture % 9 + 1))));
+                }
+                String name = repository.intern(studentName(row));
+                repository.addStudent(new Student(row + 1, lectureName, year, name,
+                                                  repository.intern(String.valueOf(20150000 + row % NAME_POOL))));
+                repository.addGrade(row + 1, lectureName, year, name,
+                                    random.nextInt(101), random.nextInt(101), random.nextInt(101));
+            }
+        } finally {
+            repository.endBatch();
+        }
+        return repository;
+    }
+}
@@ -0,0 +1,46 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * CascadeDeleteBenchmark의 작업입니다.
+ * 중간에 있는 강의 하나를 지우고, 다음 측정 전에 같은 강의와 수강 정보, 성적을 다시 추가합니다.
+ * 다시 추가한 행은 목록의 끝에 붙으므로 삭제할 때마다 다른 행이 빈 자리로 옮겨지는 일반적인 경우를 측정합니다.
+ */
+public class CascadeDeleteWorkload implements bench.CascadeDeleteBenchmark.Workload {
+    private DataRepository repository;
+    private Lecture lecture;
+    private final List<Student> students = new ArrayList<>();
+    private final List<int[]> scores = new ArrayList<>();
+
+    @Override
+    public void setUp(int rows) {
+        repository = BenchmarkData.fill(new DataRepository(), rows);
+        lecture = repository.findLecture(BenchmarkData.lectureName(BenchmarkData.lectureCount(rows) / 2));
+        for (Student student : repository.getStudentsByLecture(lecture.getName())) {
+            Grade grade = repository.findGrade(lecture.getName(), student.getName());
+            students.add(new Student(student.getId(), student.getLectureName(), student.getYear(),
+                                     student.getName(), student.getStudentId()));
+            scores.add(new int[]{grade.getId(), grade.getMidterm(), grade.getFinalExam(), grade.getAssignment()});
+        }
+    }
+
+    @Override
+    public void restore() {
+        if (repository.hasLecture(lecture.getName())) {
+            return;
+        }
+        repository.addLecture(lecture);
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            int[] score = scores.get(i);
+            repository.addStudent(new Student(student.getId(), student.getLectureName(), student.getYear(),
+                                              student.getName(), student.getStudentId()));
+            repository.addGrade(score[0], lecture.getName(), lecture.getYear(), student.getName(), score[1], score[2], score[3]);
+        }
+    }
+
+    @Override
+    public void deleteLecture() {
+        repository.removeLecture(lecture.getName());
+    }
+}
@@ -0,0 +1,55 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+/*
+ * DataFileBenchmark의 작업입니다.
+ * 준비 단계에서 같은 데이터를 data.bin과 data.txt로 저장해 두고, 읽기는 매번 새 저장소를 채웁니다.
+ * 저장은 준비 단계에서 만든 저장소를 매번 같은 파일에 덮어씁니다.
+ */
+public class DataFileWorkload implements bench.DataFileBenchmark.Workload {
+    private DataRepository repository;
+    private Path snapshot;
+    private Path text;
+    private Path missing; // 읽지 않을 파일 (텍스트 읽기에서 스냅샷 대신 사용)
+    private ChangeJournal journal;
+    private Path snapshotOutput;
+    private Path textOutput;
+
+    @Override
+    public void setUp(int rows, Path directory) throws IOException {
+        repository = BenchmarkData.fill(new DataRepository(), rows);
+        snapshot = directory.resolve(DataFiles.SNAPSHOT_NAME);
+        text = directory.resolve(DataFiles.TEXT_NAME);
+        missing = directory.resolve("missing.bin");
+        journal = new ChangeJournal(directory.resolve(DataFiles.JOURNAL_NAME));
+        snapshotOutput = directory.resolve("out.bin");
+        textOutput = directory.resolve("out.txt");
+
+        SnapshotFile.write(snapshot, 0, repository.getLectures(), repository.getStudents(), repository.getGradeStore());
+        DataFiles.writeText(text, repository.getLectures(), repository.getStudents(), repository.getGradeStore());
+    }
+
+    @Override
+    public Object loadSnapshot() throws IOException {
+        DataRepository loaded = new DataRepository();
+        DataFiles.read(loaded, snapshot, text, journal);
+        return loaded;
+    }
+
+    @Override
+    public Object loadText() throws IOException {
+        DataRepository loaded = new DataRepository();
+        DataFiles.read(loaded, missing, text, journal);
+        return loaded;
+    }
+
+    @Override
+    public void saveSnapshot() throws IOException {
+        SnapshotFile.write(snapshotOutput, 0, repository.getLectures(), repository.getStudents(), repository.getGradeStore());
+    }
+
+    @Override
+    public void saveText() throws IOException {
+        DataFiles.writeText(textOutput, repository.getLectures(), repository.getStudents(), repository.getGradeStore());
+    }
+}
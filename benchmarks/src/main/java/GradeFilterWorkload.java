@@ -0,0 +1,43 @@
+/*
+ * GradeFilterBenchmark의 작업입니다.
+ * GradeQueryPanel.filterGrades와 updateStatistics가 사용하는 저장소 조회를 그대로 호출합니다.
+ */
+public class GradeFilterWorkload implements bench.GradeFilterBenchmark.Workload {
+    private DataRepository repository;
+    private String[] lectureNames;
+    private String[] years;
+
+    @Override
+    public void setUp(int rows) {
+        repository = BenchmarkData.fill(new DataRepository(), rows);
+        lectureNames = new String[BenchmarkData.lectureCount(rows)];
+        for (int lecture = 0; lecture < lectureNames.length; lecture++) {
+            lectureNames[lecture] = BenchmarkData.lectureName(lecture);
+        }
+        years = new String[BenchmarkData.YEARS];
+        for (int i = 0; i < years.length; i++) {
+            years[i] = String.valueOf(BenchmarkData.FIRST_YEAR + i);
+        }
+    }
+
+    @Override
+    public Object filterLectureYear(int key) {
+        int lecture = Math.floorMod(key * 31, lectureNames.length);
+        return repository.findGradeRows(lectureNames[lecture], BenchmarkData.year(lecture));
+    }
+
+    @Override
+    public Object filterYear(int key) {
+        return repository.findGradeRows(null, years[Math.floorMod(key, years.length)]);
+    }
+
+    @Override
+    public Object query(String condition) {
+        return GradeQuery.parse(condition).run(repository.getGradeStore());
+    }
+
+    @Override
+    public Object statistics(int key) {
+        return repository.getGradeStatistics(null, years[Math.floorMod(key, years.length)]);
+    }
+}
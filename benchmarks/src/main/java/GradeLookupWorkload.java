@@ -0,0 +1,52 @@
+import java.util.SplittableRandom;
+
+/*
+ * GradeLookupBenchmark의 작업입니다.
+ * GradePanel.addGrade와 같은 순서로 저장소를 조회하고 수정합니다. (확인 창과 입력란 처리는 제외)
+ */
+public class GradeLookupWorkload implements bench.GradeLookupBenchmark.Workload {
+    private static final int KEYS = 1 << 12;
+
+    private final String[] lectureNames = new String[KEYS];
+    private final String[] studentNames = new String[KEYS];
+    private DataRepository repository;
+    private int score;
+
+    @Override
+    public void setUp(int rows) {
+        repository = BenchmarkData.fill(new DataRepository(), rows);
+        // 화면의 콤보박스 값처럼 저장소와 다른 문자열 객체로 조회합니다.
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        for (int i = 0; i < KEYS; i++) {
+            int row = random.nextInt(rows);
+            lectureNames[i] = new String(BenchmarkData.lectureName(row / BenchmarkData.STUDENTS_PER_LECTURE));
+            studentNames[i] = new String(BenchmarkData.studentName(row));
+        }
+    }
+
+    @Override
+    public Object findGrade(int key) {
+        int i = key & (KEYS - 1);
+        return repository.findGrade(lectureNames[i], studentNames[i]);
+    }
+
+    @Override
+    public Object findEnrollment(int key) {
+        int i = key & (KEYS - 1);
+        return repository.findEnrollment(lectureNames[i], studentNames[i]);
+    }
+
+    @Override
+    public Object addGrade(int key) {
+        int i = key & (KEYS - 1);
+        Grade grade = repository.findGrade(lectureNames[i], studentNames[i]);
+        score = (score + 1) % 101;
+        if (grade != null) {
+            repository.updateGrade(grade, score, score, score);
+            return grade;
+        }
+        Student student = repository.findEnrollment(lectureNames[i], studentNames[i]);
+        return repository.addGrade(repository.getGrades().size() + 1, lectureNames[i], student.getYear(),
+                                   studentNames[i], score, score, score);
+    }
+}
@@ -0,0 +1,58 @@
+import javax.swing.table.TableModel;
+import java.util.Objects;
+
+/*
+ * TableModelBenchmark의 작업입니다.
+ * 화면과 같은 테이블 모델(GradeTableModel, StudentTableModel, LectureTableModel)을 저장소에 연결하고
+ * 표시할 행을 정한 뒤 모든 칸을 읽습니다.
+ */
+public class TableModelWorkload implements bench.TableModelBenchmark.Workload {
+    private DataRepository repository;
+    private GradeTableModel gradeModel;
+    private StudentTableModel studentModel;
+    private LectureTableModel lectureModel;
+
+    @Override
+    public void setUp(int rows) {
+        repository = BenchmarkData.fill(new DataRepository(), rows);
+        gradeModel = new GradeTableModel(repository.getGradeStore());
+        studentModel = new StudentTableModel(repository.getStudents());
+        lectureModel = new LectureTableModel(repository.getLectures());
+    }
+
+    @Override
+    public long gradeTable() {
+        gradeModel.showAll();
+        return readAll(gradeModel);
+    }
+
+    @Override
+    public long filteredGradeTable(int key) {
+        String year = String.valueOf(BenchmarkData.FIRST_YEAR + Math.floorMod(key, BenchmarkData.YEARS));
+        gradeModel.showRows(repository.findGradeRows(null, year));
+        return readAll(gradeModel);
+    }
+
+    @Override
+    public long studentTable() {
+        studentModel.showAll();
+        return readAll(studentModel);
+    }
+
+    @Override
+    public long lectureTable() {
+        lectureModel.fireTableDataChanged();
+        return readAll(lectureModel);
+    }
+
+    private static long readAll(TableModel model) {
+        long hash = 0;
+        int columns = model.getColumnCount();
+        for (int row = 0; row < model.getRowCount(); row++) {
+            for (int column = 0; column < columns; column++) {
+                hash += Objects.hashCode(model.getValueAt(row, column));
+            }
+        }
+        return hash;
+    }
+}
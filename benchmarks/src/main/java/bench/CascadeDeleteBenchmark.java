@@ -0,0 +1,48 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 강의 삭제(LecturePanel.deleteLecture) 벤치마크입니다.
+ * 강의를 지우면 수강 학생과 성적도 함께 지워지므로 강의 하나의 삭제 시간을 한 번씩 측정합니다.
+ * 매 측정 전에 지운 강의와 수강 정보, 성적을 다시 추가해 같은 상태에서 시작합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 50)
+@Measurement(iterations = 200)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CascadeDeleteBenchmark {
+    /*
+     * 이름 없는 패키지의 CascadeDeleteWorkload가 구현합니다. (Workloads 참고)
+     */
+    public interface Workload {
+        void setUp(int rows);
+        void restore();
+        void deleteLecture();
+    }
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.create("CascadeDeleteWorkload", Workload.class);
+        workload.setUp(rows);
+    }
+
+    @Setup(Level.Iteration)
+    public void restore() {
+        workload.restore();
+    }
+
+    @Benchmark
+    public void deleteLecture() {
+        workload.deleteLecture();
+    }
+}
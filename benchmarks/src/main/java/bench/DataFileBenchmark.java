@@ -0,0 +1,76 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * 데이터 파일 읽기/쓰기 벤치마크입니다. (ManagementApp.loadFromFile, saveToFile, compact)
+ * 화면의 DataLoadWorker와 같은 파서(SnapshotFile, DataFileParser)로 저장소를 채우고,
+ * 저장은 이진 스냅샷(data.bin)과 텍스트(data.txt) 형식을 따로 측정합니다.
+ *
+ * 10,000,000행은 힙이 6GB 정도 필요합니다. 메모리가 부족하면 -p rows=10000,1000000 으로 줄여 실행합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class DataFileBenchmark {
+    /*
+     * 이름 없는 패키지의 DataFileWorkload가 구현합니다. (Workloads 참고)
+     */
+    public interface Workload {
+        void setUp(int rows, Path directory) throws IOException;
+        Object loadSnapshot() throws IOException;
+        Object loadText() throws IOException;
+        void saveSnapshot() throws IOException;
+        void saveText() throws IOException;
+    }
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private Path directory;
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("grade-bench");
+        workload = Workloads.create("DataFileWorkload", Workload.class);
+        workload.setUp(rows, directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> file.toFile().delete());
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Object loadSnapshot() throws IOException {
+        return workload.loadSnapshot();
+    }
+
+    @Benchmark
+    public Object loadText() throws IOException {
+        return workload.loadText();
+    }
+
+    @Benchmark
+    public void saveSnapshot() throws IOException {
+        workload.saveSnapshot();
+    }
+
+    @Benchmark
+    public void saveText() throws IOException {
+        workload.saveText();
+    }
+}
@@ -0,0 +1,67 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 성적 조회(GradeQueryPanel.filterGrades, updateStatistics) 벤치마크입니다.
+ * 콤보박스 필터(강의와 기준년도, 기준년도만), 조건 입력란의 조건 조회, 통계 계산을 따로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GradeFilterBenchmark {
+    /*
+     * 이름 없는 패키지의 GradeFilterWorkload가 구현합니다. (Workloads 참고)
+     * key는 필터에 사용할 강의나 기준년도를 고르는 번호입니다.
+     */
+    public interface Workload {
+        void setUp(int rows);
+        Object filterLectureYear(int key);
+        Object filterYear(int key);
+        Object query(String condition);
+        Object statistics(int key);
+    }
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    @Param({"평균<60 정렬=-총점 개수=100"})
+    public String condition;
+
+    private Workload workload;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.create("GradeFilterWorkload", Workload.class);
+        workload.setUp(rows);
+    }
+
+    @Benchmark
+    public Object filterLectureYear() {
+        return workload.filterLectureYear(key++);
+    }
+
+    @Benchmark
+    public Object filterYear() {
+        return workload.filterYear(key++);
+    }
+
+    /*
+     * 조건 입력란의 조건을 해석하고 조회합니다. (기준년도, 강의명 콤보박스는 "전체")
+     */
+    @Benchmark
+    public Object query() {
+        return workload.query(condition);
+    }
+
+    @Benchmark
+    public Object statistics() {
+        return workload.statistics(key++);
+    }
+}
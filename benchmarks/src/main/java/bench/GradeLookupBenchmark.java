@@ -0,0 +1,59 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 성적 등록(GradePanel.addGrade)의 조회 벤치마크입니다.
+ * 성적 등록은 (강의명, 학생 이름)으로 기존 성적을 찾고, 있으면 수정하고 없으면 수강 정보를 찾아 추가합니다.
+ * 조회 키는 준비 단계에서 고정된 시드로 골라 두고 호출마다 다음 키를 사용합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GradeLookupBenchmark {
+    /*
+     * 이름 없는 패키지의 GradeLookupWorkload가 구현합니다. (Workloads 참고)
+     * key는 준비해 둔 조회 키의 번호이며, 범위를 넘으면 처음부터 다시 사용합니다.
+     */
+    public interface Workload {
+        void setUp(int rows);
+        Object findGrade(int key);
+        Object findEnrollment(int key);
+        Object addGrade(int key);
+    }
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private Workload workload;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.create("GradeLookupWorkload", Workload.class);
+        workload.setUp(rows);
+    }
+
+    @Benchmark
+    public Object findGrade() {
+        return workload.findGrade(key++);
+    }
+
+    @Benchmark
+    public Object findEnrollment() {
+        return workload.findEnrollment(key++);
+    }
+
+    /*
+     * 성적 등록 전체 경로입니다. (기존 성적 조회 후 점수 수정, 저장소의 행 변경 알림 포함)
+     */
+    @Benchmark
+    public Object addGrade() {
+        return workload.addGrade(key++);
+    }
+}
@@ -0,0 +1,65 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 테이블 모델 채우기 벤치마크입니다. (load*ToTable, 필터 결과 표시)
+ * 테이블 모델은 저장소를 복사하지 않고 읽으므로, 표시할 행을 정한 뒤 모든 칸을 한 번씩 읽는 시간을 측정합니다.
+ * 화면은 보이는 행만 읽으므로 실제 화면 갱신 비용의 상한입니다. 화면 없이(headless) 실행됩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Djava.awt.headless=true"})
+public class TableModelBenchmark {
+    /*
+     * 이름 없는 패키지의 TableModelWorkload가 구현합니다. (Workloads 참고)
+     * 각 메소드는 읽은 칸 값의 해시를 더해 반환합니다.
+     */
+    public interface Workload {
+        void setUp(int rows);
+        long gradeTable();
+        long filteredGradeTable(int key);
+        long studentTable();
+        long lectureTable();
+    }
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private Workload workload;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.create("TableModelWorkload", Workload.class);
+        workload.setUp(rows);
+    }
+
+    @Benchmark
+    public long gradeTable() {
+        return workload.gradeTable();
+    }
+
+    /*
+     * 기준년도 필터 결과를 표시합니다. (GradeQueryPanel.filterGrades)
+     */
+    @Benchmark
+    public long filteredGradeTable() {
+        return workload.filteredGradeTable(key++);
+    }
+
+    @Benchmark
+    public long studentTable() {
+        return workload.studentTable();
+    }
+
+    @Benchmark
+    public long lectureTable() {
+        return workload.lectureTable();
+    }
+}
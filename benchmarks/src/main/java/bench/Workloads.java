@@ -0,0 +1,22 @@
+package bench;
+
+/*
+ * 벤치마크가 측정할 작업 객체를 만드는 클래스입니다.
+ *
+ * 프로그램의 클래스는 이름 없는 패키지에 있어 이름 있는 패키지에서 직접 참조할 수 없고,
+ * JMH는 벤치마크 클래스가 이름 없는 패키지에 있는 것을 허용하지 않습니다.
+ * 그래서 측정할 작업은 이름 없는 패키지의 클래스(DataFileWorkload 등)가 각 벤치마크의 Workload 인터페이스로 구현하고,
+ * 벤치마크는 설정 단계(@Setup)에서 한 번만 이름으로 만들어 둡니다.
+ * 측정 중에는 일반 인터페이스 호출이므로 리플렉션 비용이 측정값에 들어가지 않습니다.
+ */
+final class Workloads {
+    private Workloads() {}
+
+    static <T> T create(String className, Class<T> type) {
+        try {
+            return type.cast(Class.forName(className).getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(className + " 작업을 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/*
+ * 성적 분석 결과를 보여주는 대화상자입니다.
+ * 강의별 인원, 백분위, 중앙값, 학점 기준점을 표로 표시하고
+ * 전체 결과를 CSV 파일로 내보낼 수 있습니다.
+ */
+class AnalyticsDialog extends JDialog {
+    static final String SUMMARY_FILE = "analytics.csv";
+    static final String RANKS_FILE = "ranks.csv";
+
+    private final GradeStore grades;
+    private final List<GradeAnalytics.Result> allResults;
+    private final int[] rankByRow;
+    private final JButton exportButton;
+
+    /*
+     * grades는 분석에 사용한 저장소 복사본이고, shown은 표에 표시할 결과입니다.
+     */
+    public AnalyticsDialog(Component parent, GradeStore grades, List<GradeAnalytics.Result> allResults,
+                           int[] rankByRow, List<GradeAnalytics.Result> shown) {
+        super(SwingUtilities.getWindowAncestor(parent), "성적 분석", ModalityType.MODELESS);
+        this.grades = grades;
+        this.allResults = allResults;
+        this.rankByRow = rankByRow;
+
+        setLayout(new BorderLayout());
+        add(new JScrollPane(new JTable(new ResultTableModel(shown))), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        exportButton = new JButton("CSV로 내보내기");
+        exportButton.addActionListener(e -> export());
+        buttonPanel.add(exportButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        setSize(900, 400);
+        setLocationRelativeTo(parent);
+    }
+
+    /*
+     * 전체 분석 결과를 백그라운드에서 analytics.csv와 ranks.csv로 저장합니다.
+     */
+    private void export() {
+        exportButton.setEnabled(false);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                AtomicFileWriter.write(Paths.get(SUMMARY_FILE), temp -> GradeAnalytics.writeSummary(temp, allResults));
+                AtomicFileWriter.write(Paths.get(RANKS_FILE), temp -> GradeAnalytics.writeRanks(temp, grades, allResults, rankByRow));
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                exportButton.setEnabled(true);
+                try {
+                    get();
+                    JOptionPane.showMessageDialog(AnalyticsDialog.this, SUMMARY_FILE + ", " + RANKS_FILE + " 파일로 저장되었습니다.",
+                            "성공", JOptionPane.INFORMATION_MESSAGE);
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(AnalyticsDialog.this, "파일 저장 중 오류 발생: " + e.getCause().getMessage(),
+                            "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /*
+     * 분석 결과 표 모델입니다. 결과 하나가 한 행입니다.
+     */
+    private static class ResultTableModel extends AbstractTableModel {
+        private final List<GradeAnalytics.Result> results;
+        private final String[] columns;
+
+        ResultTableModel(List<GradeAnalytics.Result> results) {
+            this.results = results;
+            int p = GradeAnalytics.PERCENTILES.length;
+            columns = new String[4 + p + GradeAnalytics.LETTERS.length];
+            columns[0] = "강의명";
+            columns[1] = "기준년도";
+            columns[2] = "인원";
+            for (int i = 0; i < p; i++) {
+                columns[3 + i] = "P" + Math.round(GradeAnalytics.PERCENTILES[i] * 100);
+            }
+            columns[3 + p] = "중앙값";
+            for (int i = 0; i < GradeAnalytics.LETTERS.length; i++) {
+                columns[4 + p + i] = GradeAnalytics.LETTERS[i] + " 기준";
+            }
+        }
+
+        @Override
+        public int getRowCount() { return results.size(); }
+
+        @Override
+        public int getColumnCount() { return columns.length; }
+
+        @Override
+        public String getColumnName(int column) { return columns[column]; }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            switch (column) {
+                case 0: case 1: return String.class;
+                case 2: return Integer.class;
+                default: return Double.class;
+            }
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            GradeAnalytics.Result result = results.get(row);
+            int p = GradeAnalytics.PERCENTILES.length;
+            if (column == 0) return result.lectureName;
+            if (column == 1) return result.year;
+            if (column == 2) return result.count;
+            if (column < 3 + p) return Math.round(result.percentiles[column - 3] * 100) / 100.0;
+            if (column == 3 + p) return Math.round(result.median * 100) / 100.0;
+            return Math.round(result.cutoffs[column - 4 - p] * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * 파일을 안전하게 교체하는 클래스입니다.
+ * 같은 폴더의 임시 파일에 먼저 쓰고, 디스크에 반영(fsync)한 뒤
+ * 원래 파일 이름으로 원자적으로 이름을 바꿉니다.
+ * 쓰는 도중 프로그램이 종료되어도 기존 파일은 그대로 남습니다.
+ */
+class AtomicFileWriter {
+    /*
+     * 임시 파일에 내용을 쓰는 인터페이스입니다.
+     */
+    interface Content {
+        void write(Path temp) throws IOException;
+    }
+
+    private AtomicFileWriter() {}
+
+    /*
+     * content로 임시 파일을 만든 뒤 target을 교체합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우 (target은 변경되지 않음)
+     */
+    public static void write(Path target, Content content) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path directory = absolute.getParent();
+        Path temp = Files.createTempFile(directory, absolute.getFileName().toString(), ".tmp");
+        try {
+            content.write(temp);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /*
+     * 이름 변경이 디스크에 반영되도록 폴더를 fsync합니다.
+     * 폴더를 열 수 없는 운영체제(Windows 등)에서는 무시합니다.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // 지원하지 않는 경우 무시합니다.
+        }
+    }
+}
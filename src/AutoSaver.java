@@ -0,0 +1,80 @@
+import javax.swing.Timer;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 자동 저장을 담당하는 클래스입니다.
+ * 변경이 생기면 dirty 상태로 표시하고, 연속된 변경은 하나로 모아
+ * 마지막 변경 후 QUIET_DELAY 동안 변경이 없을 때 저장합니다.
+ * 변경이 계속 이어지더라도 MAX_DELAY가 지나면 저장합니다.
+ * 모든 메소드는 이벤트 디스패치 스레드에서 호출해야 합니다.
+ */
+class AutoSaver {
+    static final int QUIET_DELAY = 2000; // 마지막 변경 후 저장까지 기다리는 시간 (ms)
+    static final int MAX_DELAY = 30000;  // 첫 변경 후 저장까지 최대 대기 시간 (ms)
+
+    private final BooleanSupplier saveAction;
+    private final Timer timer;
+    private boolean enabled;
+    private boolean dirty;
+    private long dirtySince;
+
+    /*
+     * saveAction은 백그라운드 저장을 시작하고, 시작하지 못한 경우
+     * (이미 저장 중인 경우 등) false를 반환해야 합니다.
+     * 저장을 시작한 뒤에만 dirty 상태를 지우므로 saveAction이 예외를 던져도 변경 표시는 남습니다.
+     */
+    public AutoSaver(BooleanSupplier saveAction) {
+        this.saveAction = saveAction;
+        this.timer = new Timer(QUIET_DELAY, e -> save());
+        this.timer.setRepeats(false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            timer.stop();
+        } else if (dirty) {
+            timer.restart();
+        }
+    }
+
+    /*
+     * 변경이 생겼음을 알립니다.
+     */
+    public void markDirty() {
+        long now = System.currentTimeMillis();
+        if (!dirty) {
+            dirty = true;
+            dirtySince = now;
+        }
+        if (!enabled) {
+            return;
+        }
+        if (now - dirtySince >= MAX_DELAY) {
+            save();
+        } else {
+            timer.restart();
+        }
+    }
+
+    private void save() {
+        if (!enabled || !dirty) {
+            return;
+        }
+        boolean started = false;
+        try {
+            started = saveAction.getAsBoolean();
+        } finally {
+            if (started) {
+                dirty = false;
+            } else {
+                // 이전 저장이 끝나지 않았거나 저장 중 오류가 발생한 경우 잠시 후 다시 시도합니다.
+                timer.restart();
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 한 강의의 수강생 전체 성적을 표에서 한 번에 입력하는 대화상자입니다.
+ * 중간고사, 기말고사, 과제 칸을 바로 고칠 수 있고, 입력하는 동안 값을 검사해 잘못된 칸을 빨간색으로 표시합니다.
+ * 저장을 누르면 바뀐 학생만 모아 DataRepository.saveGrades()로 한 번에 저장하므로
+ * 학생마다 확인 창이 뜨거나 성적 목록 전체를 다시 그리지 않습니다.
+ *
+ * 빈 칸은 성적 추가 화면과 같이 0점으로 저장합니다.
+ */
+class BatchGradeDialog extends JDialog {
+    private static final int SCORE_COLUMN = 2; // 첫 점수 열 (중간고사)
+
+    private final DataRepository repository;
+    private final String lectureName;
+    private final RosterTableModel tableModel;
+    private final JTable table;
+    private final JLabel statusLabel = new JLabel();
+
+    public BatchGradeDialog(Component parent, DataRepository repository, String lectureName) {
+        super(SwingUtilities.getWindowAncestor(parent), "일괄 입력 - " + lectureName, ModalityType.APPLICATION_MODAL);
+        this.repository = repository;
+        this.lectureName = lectureName;
+
+        tableModel = new RosterTableModel(repository, lectureName);
+        table = new JTable(tableModel);
+        table.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+        table.setSurrendersFocusOnKeystroke(true);
+        table.setDefaultRenderer(String.class, new ScoreRenderer());
+        table.setDefaultEditor(String.class, new ScoreEditor());
+        tableModel.addTableModelListener(e -> updateStatus());
+
+        setLayout(new BorderLayout());
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        JButton saveButton = new JButton("저장");
+        saveButton.addActionListener(e -> save());
+        buttonPanel.add(saveButton);
+        JButton cancelButton = new JButton("취소");
+        cancelButton.addActionListener(e -> dispose());
+        buttonPanel.add(cancelButton);
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(4, 8, 0, 8));
+        southPanel.add(statusLabel, BorderLayout.NORTH);
+        southPanel.add(buttonPanel, BorderLayout.SOUTH);
+        add(southPanel, BorderLayout.SOUTH);
+
+        updateStatus();
+        setSize(600, 500);
+        setLocationRelativeTo(parent);
+    }
+
+    private void updateStatus() {
+        statusLabel.setText("수강생 " + tableModel.getRowCount() + "명, 변경 " + tableModel.countChangedRows()
+                + "명, 오류 " + tableModel.countInvalidCells() + "칸");
+    }
+
+    /*
+     * 바뀐 행을 모두 검사한 뒤 한 번에 저장합니다.
+     * 잘못된 칸이 하나라도 있으면 그 칸으로 이동하고 아무것도 저장하지 않습니다.
+     */
+    private void save() {
+        if (table.isEditing() && !table.getCellEditor().stopCellEditing()) {
+            return;
+        }
+
+        int[] invalid = tableModel.findInvalidCell();
+        if (invalid != null) {
+            table.changeSelection(invalid[0], invalid[1], false, false);
+            JOptionPane.showMessageDialog(this, "성적은 0부터 " + CsvImporter.MAX_SCORE + " 사이의 정수여야 합니다.",
+                    "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        List<Student> enrollments = new ArrayList<>();
+        List<int[]> scores = new ArrayList<>();
+        tableModel.collectChanges(enrollments, scores);
+        if (enrollments.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "변경된 성적이 없습니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        try {
+            int saved = repository.saveGrades(lectureName, enrollments, scores.toArray(new int[0][]));
+            JOptionPane.showMessageDialog(this, saved + "명의 성적이 저장되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+            dispose();
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /*
+     * 입력값이 올바른 점수인지 검사합니다. 빈 칸은 0점으로 보아 올바른 값입니다.
+     */
+    static boolean isValidScore(String text) {
+        if (text.isEmpty()) {
+            return true;
+        }
+        if (text.length() > 3) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return Integer.parseInt(text) <= CsvImporter.MAX_SCORE;
+    }
+
+    /*
+     * 수강생 명단 표 모델입니다. 수강생 한 명이 한 행이며 점수 칸은 입력한 글자 그대로 보관합니다.
+     * 처음 값(기존 성적, 없으면 빈 칸)과 다른 칸이 있는 행만 저장 대상입니다.
+     */
+    private static class RosterTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"학번", "이름", "중간고사", "기말고사", "과제"};
+
+        private final List<Student> roster;
+        private final String[][] original;
+        private final String[][] values;
+        private int invalidCells;
+
+        RosterTableModel(DataRepository repository, String lectureName) {
+            roster = new ArrayList<>(repository.getStudentsByLecture(lectureName));
+            original = new String[roster.size()][];
+            values = new String[roster.size()][];
+            for (int row = 0; row < roster.size(); row++) {
+                Grade grade = repository.findGrade(lectureName, roster.get(row).getName());
+                original[row] = grade == null
+                        ? new String[]{"", "", ""}
+                        : new String[]{String.valueOf(grade.getMidterm()), String.valueOf(grade.getFinalExam()),
+                                       String.valueOf(grade.getAssignment())};
+                values[row] = original[row].clone();
+            }
+        }
+
+        @Override
+        public int getRowCount() { return roster.size(); }
+
+        @Override
+        public int getColumnCount() { return COLUMNS.length; }
+
+        @Override
+        public String getColumnName(int column) { return COLUMNS[column]; }
+
+        @Override
+        public Class<?> getColumnClass(int column) { return String.class; }
+
+        @Override
+        public boolean isCellEditable(int row, int column) { return column >= SCORE_COLUMN; }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            Student student = roster.get(row);
+            switch (column) {
+                case 0: return student.getStudentId();
+                case 1: return student.getName();
+                default: return values[row][column - SCORE_COLUMN];
+            }
+        }
+
+        @Override
+        public void setValueAt(Object value, int row, int column) {
+            String text = value == null ? "" : value.toString().trim();
+            String old = values[row][column - SCORE_COLUMN];
+            if (text.equals(old)) {
+                return;
+            }
+            invalidCells += (isValidScore(text) ? 0 : 1) - (isValidScore(old) ? 0 : 1);
+            values[row][column - SCORE_COLUMN] = text;
+            fireTableCellUpdated(row, column);
+        }
+
+        boolean isChanged(int row, int column) {
+            return column >= SCORE_COLUMN && !values[row][column - SCORE_COLUMN].equals(original[row][column - SCORE_COLUMN]);
+        }
+
+        private boolean isChangedRow(int row) {
+            for (int column = SCORE_COLUMN; column < COLUMNS.length; column++) {
+                if (isChanged(row, column)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int countChangedRows() {
+            int count = 0;
+            for (int row = 0; row < roster.size(); row++) {
+                if (isChangedRow(row)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        int countInvalidCells() {
+            return invalidCells;
+        }
+
+        /*
+         * 첫 번째 잘못된 칸의 {행, 열}을 반환합니다. 없으면 null을 반환합니다.
+         */
+        int[] findInvalidCell() {
+            if (invalidCells == 0) {
+                return null;
+            }
+            for (int row = 0; row < roster.size(); row++) {
+                for (int column = SCORE_COLUMN; column < COLUMNS.length; column++) {
+                    if (!isValidScore(values[row][column - SCORE_COLUMN])) {
+                        return new int[]{row, column};
+                    }
+                }
+            }
+            return null;
+        }
+
+        /*
+         * 바뀐 행의 수강 정보와 점수를 모읍니다. 모든 칸이 올바른 값일 때만 호출합니다.
+         */
+        void collectChanges(List<Student> enrollments, List<int[]> scores) {
+            for (int row = 0; row < roster.size(); row++) {
+                if (!isChangedRow(row)) {
+                    continue;
+                }
+                int[] score = new int[3];
+                for (int i = 0; i < score.length; i++) {
+                    score[i] = values[row][i].isEmpty() ? 0 : Integer.parseInt(values[row][i]);
+                }
+                enrollments.add(roster.get(row));
+                scores.add(score);
+            }
+        }
+    }
+
+    /*
+     * 잘못된 칸은 빨간색, 바뀐 칸은 노란색 배경으로 표시합니다.
+     */
+    private class ScoreRenderer extends DefaultTableCellRenderer {
+        @Override
+        public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+                                                       boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (column >= SCORE_COLUMN && !isValidScore((String) value)) {
+                setBackground(Color.PINK);
+            } else if (tableModel.isChanged(row, column)) {
+                setBackground(isSelected ? table.getSelectionBackground().darker() : new Color(255, 250, 205));
+            } else {
+                setBackground(isSelected ? table.getSelectionBackground() : table.getBackground());
+            }
+            return this;
+        }
+    }
+
+    /*
+     * 점수 칸 편집기입니다. 글자를 입력할 때마다 값을 검사해 잘못된 값이면 입력란을 빨간색으로 바꿉니다.
+     * 잘못된 값도 칸에 남겨 두어 나중에 고칠 수 있으며, 저장할 때 다시 검사합니다.
+     */
+    private static class ScoreEditor extends DefaultCellEditor {
+        ScoreEditor() {
+            super(new JTextField());
+            JTextField field = (JTextField) getComponent();
+            field.getDocument().addDocumentListener(new DocumentListener() {
+                @Override
+                public void insertUpdate(DocumentEvent e) { check(); }
+
+                @Override
+                public void removeUpdate(DocumentEvent e) { check(); }
+
+                @Override
+                public void changedUpdate(DocumentEvent e) {}
+
+                private void check() {
+                    field.setBackground(isValidScore(field.getText().trim()) ? Color.WHITE : Color.PINK);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,391 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Swing 없이 실행하는 명령행 모드입니다.
+ * 화면과 같은 저장소(DataRepository)와 데이터 파일(data.bin, data.txt, data.journal)을 사용하므로
+ * 화면이 없는 서버(java.awt.headless=true)에서 야간 작업(가져오기, 내보내기, 분석, 검사)을 실행할 수 있습니다.
+ * AWT를 초기화하지 않으므로 바로 시작합니다.
+ *
+ * 조회 명령은 저널을 열지 않고 읽기만 하며, import, compact, archive, serve만 데이터 파일을 바꿉니다.
+ * stats, query, export에 보관한 기준년도(data.archive)를 주면 보관 파일에서 그 연도의 페이지만 읽습니다.
+ * 종료 코드: 0 성공, 1 오류(검사 실패, 거부된 행이 있는 가져오기 포함), 2 잘못된 사용법
+ */
+class BatchMain {
+    private static final String ALL = "전체";
+    private static final int MAX_PROBLEMS_SHOWN = 20; // validate에서 출력할 최대 문제 수
+
+    private static final String USAGE = String.join("\n",
+            "사용법: java Main <명령> [인자...]",
+            "  stats [강의명|전체] [기준년도|전체]            성적 통계",
+            "  query [강의명|전체] [기준년도|전체]            성적 목록 (CSV, 표준 출력)",
+            "  query <조건...>                               조건 조회 (예: 강의명=자바* 평균<60 정렬=-총점 개수=10)",
+            "  export <파일> [강의명|전체] [기준년도|전체]     성적 CSV 파일 내보내기",
+            "  rosters <폴더>                                강의별 명단 내보내기",
+            "  analyze <폴더>                                백분위, 석차 분석 (analytics.csv, ranks.csv)",
+            "  import <CSV 파일>                             수강 정보와 성적 가져오기",
+            "  validate                                      데이터 검사",
+            "  compact                                       저널을 스냅샷(data.bin)으로 압축",
+            "  save-text                                     텍스트 파일(data.txt)로 저장",
+            "  archive <기준년도>                            기준년도를 보관 파일(data.archive)로 옮기기",
+            "  archived                                      보관된 기준년도 목록",
+            "  serve [포트]                                  HTTP API 서버 실행 (기본 " + GradeApiServer.DEFAULT_PORT + ", localhost)");
+
+    private BatchMain() {}
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /*
+     * 명령을 실행하고 종료 코드를 반환합니다.
+     */
+    static int run(String[] args) {
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            return 2;
+        }
+        try {
+            switch (args[0]) {
+                case "stats": return stats(arg(args, 1), arg(args, 2));
+                case "query": return isQuery(args) ? query(GradeQuery.parse(Arrays.asList(args).subList(1, args.length)))
+                                                   : query(arg(args, 1), arg(args, 2));
+                case "export": return args.length < 2 ? usage() : export(Paths.get(args[1]), arg(args, 2), arg(args, 3));
+                case "rosters": return args.length != 2 ? usage() : rosters(Paths.get(args[1]));
+                case "analyze": return args.length != 2 ? usage() : analyze(Paths.get(args[1]));
+                case "import": return args.length != 2 ? usage() : importCsv(Paths.get(args[1]));
+                case "validate": return validate();
+                case "compact": return compact();
+                case "save-text": return saveText();
+                case "archive": return args.length != 2 ? usage() : archive(args[1]);
+                case "archived": return archived();
+                case "serve": return args.length > 2 ? usage() : serve(args.length == 2 ? Integer.parseInt(args[1]) : GradeApiServer.DEFAULT_PORT);
+                default: return usage();
+            }
+        } catch (NumberFormatException e) {
+            return usage();
+        } catch (IllegalArgumentException e) {
+            System.err.println("조건 오류: " + e.getMessage());
+            return 2;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println(args[0] + " 실행 중 오류 발생: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int usage() {
+        System.err.println(USAGE);
+        return 2;
+    }
+
+    /*
+     * args[index]를 반환합니다. 없거나 "전체"이면 null을 반환합니다.
+     */
+    private static String arg(String[] args, int index) {
+        return index < args.length && !args[index].equals(ALL) ? args[index] : null;
+    }
+
+    // ===== 데이터 파일 =====
+
+    /*
+     * 데이터 파일을 읽기만 합니다. (저널을 열지 않음)
+     */
+    private static DataRepository read() throws IOException {
+        DataRepository repository = new DataRepository();
+        DataFiles.read(repository, Paths.get(DataFiles.SNAPSHOT_NAME), Paths.get(DataFiles.TEXT_NAME),
+                       new ChangeJournal(Paths.get(DataFiles.JOURNAL_NAME)));
+        return repository;
+    }
+
+    /*
+     * 데이터 파일을 읽고 저널을 열어 이후의 변경을 기록하게 합니다.
+     */
+    private static DataRepository open(ChangeJournal journal) throws IOException {
+        journal.setErrorHandler(e -> {
+            throw new UncheckedIOException(e);
+        });
+        DataRepository repository = new DataRepository();
+        DataFiles.load(repository, Paths.get(DataFiles.SNAPSHOT_NAME), Paths.get(DataFiles.TEXT_NAME), journal);
+        return repository;
+    }
+
+    /*
+     * 저장소에 없고 보관 파일에 있는 기준년도이면 보관 파일에서 (강의명, 기준년도)의 성적만 읽어 반환합니다.
+     * 그 외에는 null을 반환합니다.
+     */
+    private static GradeStore readArchived(DataRepository repository, String lectureName, String year) throws IOException {
+        if (year == null || repository.getYears().contains(year)) {
+            return null;
+        }
+        try (GradeArchive archive = GradeArchive.open(Paths.get(DataFiles.ARCHIVE_NAME), GradeArchive.DEFAULT_CACHE_PAGES)) {
+            return archive.hasYear(year) ? archive.readGrades(year, lectureName) : null;
+        }
+    }
+
+    /*
+     * 내보낼 성적입니다. grades의 행 중 rows에 해당하는 행이며, rows가 null이면 모든 행입니다.
+     */
+    private static class Selection {
+        final GradeStore grades;
+        final int[] rows;
+
+        Selection(GradeStore grades, int[] rows) {
+            this.grades = grades;
+            this.rows = rows;
+        }
+
+        int size() {
+            return rows == null ? grades.size() : rows.length;
+        }
+    }
+
+    /*
+     * (강의명, 기준년도)의 성적을 반환합니다. 보관한 기준년도는 보관 파일에서 읽습니다.
+     * 저장소의 성적은 복사하지 않고 행 번호만 고릅니다.
+     */
+    private static Selection select(DataRepository repository, String lectureName, String year) throws IOException {
+        GradeStore archived = readArchived(repository, lectureName, year);
+        if (archived != null) {
+            return new Selection(archived, null);
+        }
+        return new Selection(repository.getGradeStore(), repository.findGradeRows(lectureName, year));
+    }
+
+    // ===== 명령 =====
+
+    private static int stats(String lectureName, String year) throws IOException {
+        DataRepository repository = read();
+        GradeStore archived = readArchived(repository, lectureName, year);
+        GradeStatistics statistics = archived != null ? archived.statistics(null, null)
+                                                      : repository.getGradeStatistics(lectureName, year);
+
+        System.out.printf("인원: %d  평균: %.2f  표준편차: %.2f  최저: %.2f  최고: %.2f%n",
+                statistics.getCount(), statistics.getMean(), statistics.getStandardDeviation(),
+                statistics.getMin(), statistics.getMax());
+        int[] buckets = statistics.getHistogram();
+        for (int i = 0; i < buckets.length; i++) {
+            System.out.printf("%3d%-4s %d%n", i * 10, i == buckets.length - 1 ? "~" : "~" + (i * 10 + 9), buckets[i]);
+        }
+        return 0;
+    }
+
+    private static int query(String lectureName, String year) throws IOException {
+        Selection selection = select(read(), lectureName, year);
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        CsvExporter.writeGrades(writer, selection.grades, selection.rows, (done, total) -> {}, () -> false);
+        return 0;
+    }
+
+    /*
+     * query 명령의 인자가 조건(필드=값 등)인지 여부입니다.
+     */
+    private static boolean isQuery(String[] args) {
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].matches(".*[=<>].*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int query(GradeQuery query) throws IOException {
+        DataRepository repository = read();
+        GradeStore grades = repository.getGradeStore();
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        CsvExporter.writeGrades(writer, grades, query.run(grades), (done, total) -> {}, () -> false);
+        return 0;
+    }
+
+    private static int export(Path target, String lectureName, String year) throws IOException {
+        Selection selection = select(read(), lectureName, year);
+        CsvExporter.writeGrades(target, selection.grades, selection.rows, (done, total) -> {}, () -> false);
+        System.out.println("성적 " + selection.size() + "건을 " + target + "에 저장했습니다.");
+        return 0;
+    }
+
+    private static int rosters(Path directory) throws IOException {
+        DataRepository repository = read();
+        Files.createDirectories(directory);
+        int files = CsvExporter.writeRosters(directory, repository.snapshot(), (done, total) -> {}, () -> false);
+        System.out.println("명단 파일 " + files + "개를 " + directory + "에 저장했습니다.");
+        return 0;
+    }
+
+    private static int analyze(Path directory) throws IOException {
+        DataRepository repository = read();
+        GradeStore grades = repository.getGradeStore();
+        List<GradeAnalytics.Result> results = GradeAnalytics.analyze(grades);
+        int[] rankByRow = GradeAnalytics.rankAll(grades);
+        Files.createDirectories(directory);
+        AtomicFileWriter.write(directory.resolve("analytics.csv"), temp -> GradeAnalytics.writeSummary(temp, results));
+        AtomicFileWriter.write(directory.resolve("ranks.csv"), temp -> GradeAnalytics.writeRanks(temp, grades, results, rankByRow));
+        System.out.println("강의 " + results.size() + "개, 성적 " + grades.size() + "건을 분석했습니다.");
+        return 0;
+    }
+
+    private static int importCsv(Path source) throws IOException {
+        ChangeJournal journal = new ChangeJournal(Paths.get(DataFiles.JOURNAL_NAME));
+        DataRepository repository = open(journal);
+        CsvImporter importer = new CsvImporter(repository, source);
+        try {
+            CsvImporter.read(source, repository.getSymbols(), importer::apply, () -> false);
+        } finally {
+            importer.close();
+            journal.sync();
+            journal.close();
+        }
+        System.out.println(importer.getSummary());
+        return importer.getRejectedCount() > 0 ? 1 : 0;
+    }
+
+    /*
+     * 데이터의 일관성을 검사합니다.
+     * 수강 정보의 강의, 성적의 강의와 수강 정보, 성적의 기준년도, 점수 범위를 확인합니다.
+     */
+    private static int validate() throws IOException {
+        DataRepository repository = read();
+        List<String> problems = new ArrayList<>();
+        int problemCount = 0;
+
+        for (Student student : repository.getStudents()) {
+            if (repository.findLecture(student.getLectureName()) == null) {
+                problemCount = report(problems, problemCount, "학생 " + student.getName() + ": 강의 " + student.getLectureName() + "가 없습니다.");
+            }
+        }
+
+        GradeStore grades = repository.getGradeStore();
+        for (int row = 0; row < grades.size(); row++) {
+            String prefix = "성적 " + grades.getId(row) + ": ";
+            Lecture lecture = repository.findLecture(grades.getLectureName(row));
+            if (lecture == null) {
+                problemCount = report(problems, problemCount, prefix + "강의 " + grades.getLectureName(row) + "가 없습니다.");
+            } else if (!lecture.getYear().equals(grades.getYear(row))) {
+                problemCount = report(problems, problemCount, prefix + "기준년도 " + grades.getYear(row) + "가 강의와 다릅니다.");
+            }
+            if (repository.findEnrollment(grades.getLectureName(row), grades.getStudentName(row)) == null) {
+                problemCount = report(problems, problemCount, prefix + grades.getStudentName(row) + " 학생의 수강 정보가 없습니다.");
+            }
+            if (!inRange(grades.getMidterm(row)) || !inRange(grades.getFinalExam(row)) || !inRange(grades.getAssignment(row))) {
+                problemCount = report(problems, problemCount, prefix + "점수가 0~100 범위를 벗어났습니다.");
+            }
+        }
+
+        for (String problem : problems) {
+            System.out.println(problem);
+        }
+        if (problemCount > problems.size()) {
+            System.out.println("... 외 " + (problemCount - problems.size()) + "건");
+        }
+        System.out.println("강의 " + repository.getLectures().size() + "개, 학생 " + repository.getStudents().size() +
+                           "명, 성적 " + grades.size() + "건 검사: 문제 " + problemCount + "건");
+        return problemCount == 0 ? 0 : 1;
+    }
+
+    private static int report(List<String> problems, int problemCount, String problem) {
+        if (problems.size() < MAX_PROBLEMS_SHOWN) {
+            problems.add(problem);
+        }
+        return problemCount + 1;
+    }
+
+    private static boolean inRange(int score) {
+        return score >= 0 && score <= 100;
+    }
+
+    private static int compact() throws IOException {
+        ChangeJournal journal = new ChangeJournal(Paths.get(DataFiles.JOURNAL_NAME));
+        DataRepository repository = open(journal);
+        try {
+            DataFiles.compact(repository, journal, Paths.get(DataFiles.SNAPSHOT_NAME));
+        } finally {
+            journal.close();
+        }
+        System.out.println(DataFiles.SNAPSHOT_NAME + "에 저장했습니다.");
+        return 0;
+    }
+
+    /*
+     * 기준년도를 보관 파일로 옮기고 저장소에서 지운 뒤 스냅샷으로 압축합니다.
+     */
+    private static int archive(String year) throws IOException {
+        ChangeJournal journal = new ChangeJournal(Paths.get(DataFiles.JOURNAL_NAME));
+        DataRepository repository = open(journal);
+        try {
+            if (!repository.getYears().contains(year)) {
+                System.err.println("기준년도 " + year + "의 강의가 없습니다.");
+                return 1;
+            }
+            int grades = repository.getGradeStatistics(null, year).getCount();
+            int lectures = DataFiles.archiveYear(repository, journal, Paths.get(DataFiles.SNAPSHOT_NAME),
+                                                 Paths.get(DataFiles.ARCHIVE_NAME), year);
+            System.out.println(year + "년 강의 " + lectures + "개, 성적 " + grades + "건을 " + DataFiles.ARCHIVE_NAME + "로 옮겼습니다.");
+        } finally {
+            journal.close();
+        }
+        return 0;
+    }
+
+    /*
+     * 보관된 기준년도마다 강의 수와 성적 수를 출력합니다. 목차만 읽습니다.
+     */
+    private static int archived() throws IOException {
+        try (GradeArchive archive = GradeArchive.open(Paths.get(DataFiles.ARCHIVE_NAME), 0)) {
+            for (String year : archive.getYears()) {
+                System.out.println(year + "  강의 " + archive.getLectures(year).size() + "개, 성적 "
+                                   + archive.getGradeCount(year, null) + "건");
+            }
+        }
+        return 0;
+    }
+
+    private static int saveText() throws IOException {
+        DataRepository repository = read();
+        AtomicFileWriter.write(Paths.get(DataFiles.TEXT_NAME), temp -> DataFiles.writeText(temp,
+                repository.getLectures(), repository.getStudents(), repository.getGradeStore()));
+        System.out.println(DataFiles.TEXT_NAME + "에 저장했습니다.");
+        return 0;
+    }
+
+    /*
+     * HTTP API 서버를 실행하고 종료(Ctrl+C 등)될 때까지 기다립니다.
+     * 저장소 변경은 한 스레드에서만 하고, 종료할 때 저널을 디스크에 반영합니다.
+     */
+    private static int serve(int port) throws IOException {
+        ChangeJournal journal = new ChangeJournal(Paths.get(DataFiles.JOURNAL_NAME));
+        DataRepository repository = open(journal);
+        repository.snapshot();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        GradeApiServer server = new GradeApiServer(repository, writer);
+        server.start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            writer.shutdown();
+            try {
+                writer.awaitTermination(10, TimeUnit.SECONDS);
+                journal.sync();
+                journal.close();
+            } catch (IOException | InterruptedException e) {
+                System.err.println("저널 저장 중 오류 발생: " + e.getMessage());
+            }
+        }));
+        System.out.println("http://localhost:" + server.getPort() + "/api/ 에서 요청을 받습니다.");
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+}
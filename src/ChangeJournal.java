@@ -0,0 +1,364 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/*
+ * 변경 내역을 파일 끝에 추가하는 저널 클래스입니다.
+ * 강의/학생/성적의 추가, 삭제, 수정이 일어날 때마다 작은 레코드를 하나씩 기록하므로
+ * 저장 비용이 전체 데이터 크기가 아닌 변경 크기에 비례합니다.
+ *
+ * 시작 시에는 스냅샷(data.bin)을 읽은 뒤 스냅샷 이후의 레코드만 다시 적용합니다.
+ * 압축(compaction) 시에는 현재 저널을 data.journal.1로 옮기고 새 저널에 기록을 이어가며,
+ * 새 스냅샷이 완성되면 data.journal.1을 삭제합니다.
+ *
+ * 레코드 구조: 길이(int), 내용, CRC32(int)
+ * 내용: 일련번호(long), 종류(byte), 종류별 필드
+ * 비정상 종료로 잘린 마지막 레코드는 읽을 때 무시하고 파일에서 잘라냅니다.
+ */
+class ChangeJournal {
+    static final byte ADD_LECTURE = 1;
+    static final byte REMOVE_LECTURE = 2;
+    static final byte ADD_STUDENT = 3;
+    static final byte REMOVE_STUDENT = 4;
+    static final byte ADD_GRADE = 5;
+    static final byte UPDATE_GRADE = 6;
+
+    private final Path file;
+    private final Path rotatedFile;
+    private FileChannel channel;
+    private long nextSequence = 1;
+    private int entryCount;
+    private Consumer<IOException> errorHandler = e -> {};
+
+    public ChangeJournal(Path file) {
+        this.file = file;
+        this.rotatedFile = file.resolveSibling(file.getFileName() + ".1");
+    }
+
+    public Path getFile() { return file; }
+    public Path getRotatedFile() { return rotatedFile; }
+
+    /*
+     * 기록 중 발생한 오류를 전달받을 handler를 설정합니다.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /*
+     * 저널 파일을 추가 모드로 엽니다.
+     * rotate()에서 내용을 data.journal.1로 옮길 때 읽어야 하므로 읽기/쓰기 모드로 엽니다.
+     * 잘린 마지막 레코드가 있으면 마지막 정상 레코드까지 파일을 자릅니다.
+     *
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public void open(long nextSequence) throws IOException {
+        close();
+        Scan scan = scan(file, Long.MAX_VALUE);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(scan.validLength);
+        channel.position(scan.validLength);
+        this.nextSequence = Math.max(nextSequence, scan.lastSequence + 1);
+        this.entryCount = scan.count;
+    }
+
+    public boolean isOpen() {
+        return channel != null;
+    }
+
+    /*
+     * 마지막으로 기록된 레코드의 일련번호를 반환합니다.
+     */
+    public long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /*
+     * 현재 저널 파일에 기록된 레코드 수를 반환합니다.
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    // ===== 기록 =====
+
+    public void lectureAdded(Lecture lecture) {
+        append(ADD_LECTURE, out -> {
+            out.writeInt(lecture.getId());
+            out.writeUTF(lecture.getYear());
+            out.writeUTF(lecture.getName());
+            out.writeUTF(lecture.getTime());
+        });
+    }
+
+    public void lectureRemoved(String lectureName) {
+        append(REMOVE_LECTURE, out -> out.writeUTF(lectureName));
+    }
+
+    public void studentAdded(Student student) {
+        append(ADD_STUDENT, out -> {
+            out.writeInt(student.getId());
+            out.writeUTF(student.getLectureName());
+            out.writeUTF(student.getYear());
+            out.writeUTF(student.getName());
+            out.writeUTF(student.getStudentId());
+        });
+    }
+
+    public void studentRemoved(String studentName) {
+        append(REMOVE_STUDENT, out -> out.writeUTF(studentName));
+    }
+
+    public void gradeAdded(Grade grade) {
+        append(ADD_GRADE, out -> {
+            out.writeInt(grade.getId());
+            out.writeUTF(grade.getLectureName());
+            out.writeUTF(grade.getYear());
+            out.writeUTF(grade.getStudentName());
+            out.writeInt(grade.getMidterm());
+            out.writeInt(grade.getFinalExam());
+            out.writeInt(grade.getAssignment());
+        });
+    }
+
+    public void gradeUpdated(Grade grade) {
+        append(UPDATE_GRADE, out -> {
+            out.writeUTF(grade.getLectureName());
+            out.writeUTF(grade.getStudentName());
+            out.writeInt(grade.getMidterm());
+            out.writeInt(grade.getFinalExam());
+            out.writeInt(grade.getAssignment());
+        });
+    }
+
+    private interface Payload {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private void append(byte type, Payload payload) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(nextSequence);
+            out.writeByte(type);
+            payload.write(out);
+            byte[] body = bytes.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            ByteBuffer record = ByteBuffer.allocate(body.length + 8);
+            record.putInt(body.length).put(body).putInt((int) crc.getValue()).flip();
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            nextSequence++;
+            entryCount++;
+        } catch (IOException e) {
+            errorHandler.accept(e);
+        }
+    }
+
+    /*
+     * 기록된 내용을 디스크에 강제로 반영합니다.
+     *
+     * @throws IOException 디스크 반영 중 오류가 발생한 경우
+     */
+    public void sync() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    // ===== 압축 =====
+
+    /*
+     * 압축을 시작할 때 호출합니다.
+     * 현재 저널의 내용을 data.journal.1로 옮기고 빈 저널에 기록을 이어갑니다.
+     * 이전 압축이 실패해 data.journal.1이 남아 있으면 그 뒤에 이어 붙입니다.
+     *
+     * @throws IOException 파일 이동 중 오류가 발생한 경우
+     */
+    public void rotate() throws IOException {
+        sync();
+        if (Files.exists(rotatedFile)) {
+            try (FileChannel target = FileChannel.open(rotatedFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                long size = channel.size();
+                long transferred = 0;
+                while (transferred < size) {
+                    transferred += channel.transferTo(transferred, size - transferred, target);
+                }
+                target.force(false);
+            }
+            channel.truncate(0);
+            channel.position(0);
+        } else {
+            close();
+            try {
+                Files.move(file, rotatedFile, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                // 옮기지 못했으면 기존 저널을 다시 열어 기록을 이어갑니다.
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                channel.position(channel.size());
+            }
+        }
+        entryCount = 0;
+    }
+
+    /*
+     * 새 스냅샷이 저장된 뒤 호출합니다. 옮겨 둔 저널을 삭제합니다.
+     *
+     * @throws IOException 파일 삭제 중 오류가 발생한 경우
+     */
+    public void finishCompaction() throws IOException {
+        Files.deleteIfExists(rotatedFile);
+    }
+
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // ===== 읽기 =====
+
+    /*
+     * 저널에서 읽은 변경 레코드입니다.
+     */
+    static class Entry {
+        final long sequence;
+        final byte type;
+        private final Object[] fields;
+
+        Entry(long sequence, byte type, Object[] fields) {
+            this.sequence = sequence;
+            this.type = type;
+            this.fields = fields;
+        }
+
+        /*
+         * 레코드를 저장소에 적용합니다.
+         */
+        void apply(DataRepository repository) {
+            switch (type) {
+                case ADD_LECTURE:
+                    repository.addLecture(new Lecture((Integer) fields[0], repository.intern((String) fields[1]),
+                                                      repository.intern((String) fields[2]), repository.intern((String) fields[3])));
+                    break;
+                case REMOVE_LECTURE:
+                    repository.removeLecture((String) fields[0]);
+                    break;
+                case ADD_STUDENT:
+                    repository.addStudent(new Student((Integer) fields[0], repository.intern((String) fields[1]),
+                                                      repository.intern((String) fields[2]), repository.intern((String) fields[3]),
+                                                      repository.intern((String) fields[4])));
+                    break;
+                case REMOVE_STUDENT:
+                    repository.removeStudent((String) fields[0]);
+                    break;
+                case ADD_GRADE:
+                    repository.addGrade((Integer) fields[0], (String) fields[1], (String) fields[2], (String) fields[3],
+                                        (Integer) fields[4], (Integer) fields[5], (Integer) fields[6]);
+                    break;
+                case UPDATE_GRADE: {
+                    Grade grade = repository.findGrade((String) fields[0], (String) fields[1]);
+                    if (grade != null) {
+                        repository.updateGrade(grade, (Integer) fields[2], (Integer) fields[3], (Integer) fields[4]);
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /*
+     * 저널 파일에서 일련번호가 afterSequence보다 큰 레코드를 읽습니다.
+     * 파일이 없으면 빈 목록을 반환합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public static List<Entry> read(Path path, long afterSequence) throws IOException {
+        return scan(path, afterSequence).entries;
+    }
+
+    private static class Scan {
+        final List<Entry> entries = new ArrayList<>();
+        long validLength;
+        long lastSequence;
+        int count;
+    }
+
+    /*
+     * 저널 파일을 처음부터 읽으며 정상 레코드의 끝 위치를 찾습니다.
+     * afterSequence가 Long.MAX_VALUE이면 레코드 내용은 모으지 않습니다.
+     */
+    private static Scan scan(Path path, long afterSequence) throws IOException {
+        Scan scan = new Scan();
+        if (!Files.exists(path)) {
+            return scan;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] body;
+                int checksum;
+                try {
+                    int length = in.readInt();
+                    if (length < 9 || length > (1 << 20)) {
+                        break; // 손상된 길이
+                    }
+                    body = new byte[length];
+                    in.readFully(body);
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break; // 잘린 마지막 레코드
+                }
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+                long sequence = record.readLong();
+                byte type = record.readByte();
+                if (afterSequence != Long.MAX_VALUE && sequence > afterSequence) {
+                    scan.entries.add(new Entry(sequence, type, readFields(type, record)));
+                }
+                scan.validLength += body.length + 8;
+                scan.lastSequence = Math.max(scan.lastSequence, sequence);
+                scan.count++;
+            }
+        }
+        return scan;
+    }
+
+    private static Object[] readFields(byte type, DataInputStream in) throws IOException {
+        switch (type) {
+            case ADD_LECTURE:
+                return new Object[]{in.readInt(), in.readUTF(), in.readUTF(), in.readUTF()};
+            case REMOVE_LECTURE:
+            case REMOVE_STUDENT:
+                return new Object[]{in.readUTF()};
+            case ADD_STUDENT:
+                return new Object[]{in.readInt(), in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF()};
+            case ADD_GRADE:
+                return new Object[]{in.readInt(), in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt(), in.readInt()};
+            case UPDATE_GRADE:
+                return new Object[]{in.readUTF(), in.readUTF(), in.readInt(), in.readInt(), in.readInt()};
+            default:
+                throw new IOException("알 수 없는 저널 레코드 종류: " + type);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 성적과 강의별 명단을 CSV 파일로 내보내는 클래스입니다.
+ * 성적 저장소의 스냅샷에서 한 행씩 읽어 버퍼를 거쳐 파일에 바로 쓰므로
+ * 레코드 객체나 테이블 모델 복사본을 만들지 않고, 쓰기에 필요한 메모리는 버퍼 크기로 일정합니다.
+ * 모든 파일은 AtomicFileWriter로 쓰므로 취소하거나 오류가 나면 기존 파일이 그대로 남습니다.
+ * 한글이 깨지지 않도록 UTF-8(BOM 포함, 스프레드시트 호환)로 저장합니다.
+ */
+class CsvExporter {
+    static final String GRADE_HEADER = "ID,강의명,기준년도,학생명,중간고사,기말고사,과제,총점,평균";
+    static final String ROSTER_HEADER = "학번,이름,기준년도,중간고사,기말고사,과제,총점,평균";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int PROGRESS_INTERVAL = 1 << 12; // 진행률을 알리는 행 간격
+
+    /*
+     * 진행 상황을 전달받는 인터페이스입니다.
+     */
+    interface Progress {
+        void update(long done, long total);
+    }
+
+    private CsvExporter() {}
+
+    /*
+     * 성적 저장소 스냅샷(grades)의 모든 행을 CSV 파일로 저장합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생하거나 취소된 경우 (target은 변경되지 않음)
+     */
+    public static void writeGrades(Path target, GradeStore grades, Progress progress, BooleanSupplier cancelled) throws IOException {
+        writeGrades(target, grades, null, progress, cancelled);
+    }
+
+    /*
+     * 성적 저장소 스냅샷(grades)의 행 중 rows에 해당하는 행만 순서대로 CSV 파일로 저장합니다. (null은 모든 행)
+     * 조회 화면의 필터 결과는 행 번호 배열만 전달하므로 고른 행을 따로 복사하지 않습니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생하거나 취소된 경우 (target은 변경되지 않음)
+     */
+    public static void writeGrades(Path target, GradeStore grades, int[] rows, Progress progress, BooleanSupplier cancelled) throws IOException {
+        AtomicFileWriter.write(target, temp -> {
+            try (BufferedWriter writer = open(temp)) {
+                writeGrades(writer, grades, rows, progress, cancelled);
+            }
+        });
+    }
+
+    /*
+     * 성적 저장소(grades)의 행 중 rows에 해당하는 행을 writer에 CSV로 씁니다. (null은 모든 행, BOM 없음, writer는 닫지 않음)
+     * 명령행 모드에서 표준 출력으로 조회 결과를 보낼 때도 사용합니다.
+     *
+     * @throws IOException 쓰기 중 오류가 발생하거나 취소된 경우
+     */
+    static void writeGrades(Writer writer, GradeStore grades, int[] rows, Progress progress, BooleanSupplier cancelled) throws IOException {
+        int size = rows == null ? grades.size() : rows.length;
+        writer.write(GRADE_HEADER);
+        writer.write('\n');
+        for (int i = 0; i < size; i++) {
+            if (i % PROGRESS_INTERVAL == 0) {
+                checkCancelled(cancelled);
+                progress.update(i, size);
+            }
+            int row = rows == null ? i : rows[i];
+            writer.write(String.valueOf(grades.getId(row)));
+            writer.write(',');
+            writer.write(escape(grades.getLectureName(row)));
+            writer.write(',');
+            writer.write(escape(grades.getYear(row)));
+            writer.write(',');
+            writer.write(escape(grades.getStudentName(row)));
+            writer.write(',');
+            writeScores(writer, grades, row);
+            writer.write('\n');
+        }
+        writer.flush();
+        progress.update(size, size);
+    }
+
+    /*
+     * 강의마다 "<강의명>_<기준년도>.csv" 명단 파일을 directory에 저장합니다.
+     * snapshot의 강의별 수강 학생과 성적을 읽으며, 강의별 파일은 여러 스레드에서 동시에 씁니다.
+     * 성적 행은 강의마다 (강의명, 기준년도)의 행만 모아 학생별로 찾으므로
+     * 전체 성적에 대한 색인을 만들지 않고, 필요한 메모리는 가장 큰 강의의 행 수에 비례합니다.
+     * 성적이 없는 학생은 점수 칸을 비웁니다. 저장한 파일 수를 반환합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생하거나 취소된 경우
+     */
+    public static int writeRosters(Path directory, DataSnapshot snapshot, Progress progress, BooleanSupplier cancelled) throws IOException {
+        GradeStore grades = snapshot.getGradeStore();
+        List<Lecture> lectures = snapshot.getLectures();
+        int threads = Math.max(1, Math.min(lectures.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger done = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>(lectures.size());
+            for (Lecture lecture : lectures) {
+                List<Student> students = snapshot.getStudentsByLecture(lecture.getName());
+                futures.add(executor.submit(() -> {
+                    checkCancelled(cancelled);
+                    writeRoster(directory.resolve(fileName(lecture)), grades, lecture, students);
+                    progress.update(done.incrementAndGet(), lectures.size());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("내보내기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return lectures.size();
+    }
+
+    private static void writeRoster(Path target, GradeStore grades, Lecture lecture, List<Student> students) throws IOException {
+        // 이 강의의 학생 번호 -> 성적 행 인덱스를 만듭니다. (같은 학생은 처음 행)
+        SymbolTable symbols = grades.getSymbols();
+        int[] rows = grades.rowsOf(lecture.getName(), lecture.getYear());
+        LongIntHashMap rowByStudent = new LongIntHashMap(rows.length);
+        for (int row : rows) {
+            rowByStudent.putIfAbsent(grades.getStudentCode(row), row);
+        }
+        AtomicFileWriter.write(target, temp -> {
+            try (BufferedWriter writer = open(temp)) {
+                writer.write(ROSTER_HEADER);
+                writer.write('\n');
+                for (Student student : students) {
+                    writer.write(escape(student.getStudentId()));
+                    writer.write(',');
+                    writer.write(escape(student.getName()));
+                    writer.write(',');
+                    writer.write(escape(student.getYear()));
+                    writer.write(',');
+                    int studentCode = symbols.find(student.getName());
+                    int row = studentCode < 0 ? LongIntHashMap.MISSING : rowByStudent.get(studentCode);
+                    if (row == LongIntHashMap.MISSING) {
+                        writer.write(",,,,");
+                    } else {
+                        writeScores(writer, grades, row);
+                    }
+                    writer.write('\n');
+                }
+            }
+        });
+    }
+
+    private static BufferedWriter open(Path path) throws IOException {
+        BufferedWriter writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write('\uFEFF');
+        return writer;
+    }
+
+    private static void writeScores(Writer writer, GradeStore grades, int row) throws IOException {
+        writer.write(grades.getMidterm(row) + "," + grades.getFinalExam(row) + "," + grades.getAssignment(row) +
+                     "," + grades.getTotal(row) + "," + grades.getAverage(row));
+    }
+
+    private static void checkCancelled(BooleanSupplier cancelled) throws InterruptedIOException {
+        if (cancelled.getAsBoolean()) {
+            throw new InterruptedIOException("내보내기가 취소되었습니다.");
+        }
+    }
+
+    /*
+     * 강의 명단 파일 이름을 만듭니다. 파일 이름에 쓸 수 없는 문자는 '_'로 바꿉니다.
+     */
+    static String fileName(Lecture lecture) {
+        return (lecture.getName() + "_" + lecture.getYear()).replaceAll("[\\\\/:*?\"<>|\\s]", "_") + ".csv";
+    }
+
+    /*
+     * 쉼표, 따옴표, 줄바꿈이 있는 필드는 큰따옴표로 감쌉니다.
+     */
+    static String escape(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + field.replace("\"", "\"\"") + '"';
+            }
+        }
+        return field;
+    }
+}
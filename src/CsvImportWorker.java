@@ -0,0 +1,86 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/*
+ * CSV 가져오기를 백그라운드 스레드에서 실행하는 클래스입니다.
+ * 파일 읽기와 파싱/검증은 백그라운드에서, 저장소 반영은 이벤트 디스패치 스레드에서 묶음 단위로 합니다.
+ * 반영 중에는 테이블을 갱신하지 않고, 끝난 뒤 메인 애플리케이션이 한 번만 갱신합니다.
+ */
+class CsvImportWorker extends SwingWorker<Void, CsvImporter.Batch> {
+    private final ManagementApp app;
+    private final Path file;
+    private final CsvImporter importer;
+    private IOException applyError; // 반영 중 발생한 오류 (거부 목록 기록 실패)
+
+    // DataLoadWorker와 같이 모든 묶음이 반영된 뒤에 완료를 알립니다.
+    private volatile int publishedBatches;
+    private int processedBatches;
+    private boolean finished;
+
+    public CsvImportWorker(ManagementApp app, Path file) {
+        this.app = app;
+        this.file = file;
+        this.importer = new CsvImporter(app.getRepository(), file);
+    }
+
+    public CsvImporter getImporter() {
+        return importer;
+    }
+
+    /*
+     * 반영 중 발생한 오류를 반환합니다. (완료 후에만 호출)
+     */
+    public IOException getApplyError() {
+        return applyError;
+    }
+
+    @Override
+    protected Void doInBackground() throws IOException {
+        long size = Math.max(1, Files.size(file));
+        CsvImporter.read(file, app.getRepository().getSymbols(), batch -> {
+            publishedBatches++;
+            publish(batch);
+            setProgress((int) Math.min(99, batch.position * 100 / size));
+        }, this::isCancelled);
+        return null;
+    }
+
+    @Override
+    protected void process(List<CsvImporter.Batch> batches) {
+        for (CsvImporter.Batch batch : batches) {
+            if (applyError == null) {
+                try {
+                    importer.apply(batch);
+                } catch (IOException e) {
+                    applyError = e;
+                }
+            }
+        }
+        processedBatches += batches.size();
+        if (isDone()) {
+            finish();
+        }
+    }
+
+    @Override
+    protected void done() {
+        finish();
+    }
+
+    private void finish() {
+        if (!finished && (isCancelled() || processedBatches >= publishedBatches)) {
+            finished = true;
+            try {
+                importer.close();
+            } catch (IOException e) {
+                if (applyError == null) {
+                    applyError = e;
+                }
+            }
+            app.finishImport(this);
+        }
+    }
+}
@@ -0,0 +1,417 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 수강 정보와 성적을 CSV 파일에서 한꺼번에 가져오는 클래스입니다.
+ *
+ * CSV 형식 (UTF-8, 첫 줄이 "강의명"으로 시작하면 머리글로 보고 건너뜁니다)
+ *   강의명,기준년도,학생명,학번[,중간,기말,과제]
+ * 점수가 모두 비어 있으면 수강 정보만 등록하고, 하나라도 있으면 빈 점수는 0으로 처리합니다.
+ * 큰따옴표로 감싼 필드("a,b")와 따옴표 이스케이프("")를 지원합니다.
+ *
+ * 파일은 한 줄씩 읽어 BATCH_SIZE 줄 단위 묶음으로 나누고, 묶음마다 병렬로 파싱/검증한 뒤
+ * 읽은 순서대로 전달합니다. 진행 중인 묶음 수를 제한하므로 파일 크기와 관계없이 메모리가 일정합니다.
+ *
+ * 저장소 반영(apply)은 성적 등록 화면과 같은 규칙을 따릅니다.
+ * - 강의가 없거나 기준년도가 강의의 기준년도와 다르면 거부합니다.
+ * - (강의명, 학생명) 수강 정보가 없으면 학생을 추가합니다.
+ * - (강의명, 학생명) 성적이 있으면 점수를 수정하고, 없으면 수강 정보의 기준년도로 추가합니다.
+ * 거부된 줄은 원본 파일 옆의 "<파일명>.rejected.txt"에 줄 번호, 사유와 함께 기록합니다.
+ */
+class CsvImporter {
+    static final int BATCH_SIZE = 10000;
+    static final int MAX_SCORE = 100;
+    private static final int MAX_SAMPLE_REJECTIONS = 20; // 요약에 보여줄 거부 줄 수
+    private static final int MAX_IN_FLIGHT = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+
+    /*
+     * 검증을 통과한 CSV 한 줄입니다. 문자열은 저장소의 대표 문자열입니다.
+     */
+    static class Record {
+        final long line;
+        final String lectureName, year, studentName, studentId;
+        final boolean hasScores;
+        final int midterm, finalExam, assignment;
+
+        Record(long line, String lectureName, String year, String studentName, String studentId,
+               boolean hasScores, int midterm, int finalExam, int assignment) {
+            this.line = line;
+            this.lectureName = lectureName;
+            this.year = year;
+            this.studentName = studentName;
+            this.studentId = studentId;
+            this.hasScores = hasScores;
+            this.midterm = midterm;
+            this.finalExam = finalExam;
+            this.assignment = assignment;
+        }
+    }
+
+    /*
+     * 파싱된 줄 묶음입니다. 검증에 실패한 줄은 거부 사유와 함께 담깁니다.
+     */
+    static class Batch {
+        final List<Record> records = new ArrayList<>();
+        final List<String> rejections = new ArrayList<>(); // "줄 번호: 사유: 원문"
+        long position; // 묶음 끝까지 읽은 바이트 수
+    }
+
+    /*
+     * 파싱된 묶음을 읽은 순서대로 전달받는 인터페이스입니다.
+     */
+    interface BatchConsumer {
+        void accept(Batch batch) throws IOException;
+    }
+
+    private final DataRepository repository;
+    private final Path rejectFile;
+    private BufferedWriter rejectWriter;
+
+    private int enrolled, gradesAdded, gradesUpdated, rejected;
+    private final List<String> sampleRejections = new ArrayList<>();
+
+    /*
+     * source는 가져올 CSV 파일이며, 거부된 줄은 그 옆의 파일에 기록합니다.
+     */
+    public CsvImporter(DataRepository repository, Path source) {
+        this.repository = repository;
+        this.rejectFile = source.resolveSibling(source.getFileName() + ".rejected.txt");
+    }
+
+    // ===== 읽기 (백그라운드 스레드) =====
+
+    /*
+     * CSV 파일을 읽어 묶음 단위로 병렬 파싱하고 consumer에 순서대로 전달합니다.
+     * cancelled가 true를 반환하면 중단합니다.
+     * 문자열은 symbols의 대표 문자열로 바꿉니다.
+     *
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public static void read(Path file, SymbolTable symbols, BatchConsumer consumer, BooleanSupplier cancelled) throws IOException {
+        ArrayDeque<CompletableFuture<Batch>> inFlight = new ArrayDeque<>();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8), 1 << 16)) {
+            long lineNumber = 0;
+            List<String> lines = new ArrayList<>(BATCH_SIZE);
+            long firstLine = 1;
+            String line;
+            while ((line = reader.readLine()) != null && !cancelled.getAsBoolean()) {
+                lineNumber++;
+                if (lineNumber == 1) {
+                    if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                        line = line.substring(1); // UTF-8 BOM
+                    }
+                    if (line.startsWith("강의명")) {
+                        firstLine = 2;
+                        continue; // 머리글
+                    }
+                }
+                lines.add(line);
+                if (lines.size() == BATCH_SIZE) {
+                    submit(inFlight, pool, lines, firstLine, counter.getCount(), symbols);
+                    firstLine = lineNumber + 1;
+                    lines = new ArrayList<>(BATCH_SIZE);
+                    while (inFlight.size() >= MAX_IN_FLIGHT) {
+                        consumer.accept(join(inFlight.poll()));
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(inFlight, pool, lines, firstLine, counter.getCount(), symbols);
+            }
+            while (!inFlight.isEmpty() && !cancelled.getAsBoolean()) {
+                consumer.accept(join(inFlight.poll()));
+            }
+        } finally {
+            for (CompletableFuture<Batch> future : inFlight) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private static void submit(ArrayDeque<CompletableFuture<Batch>> inFlight, ForkJoinPool pool,
+                               List<String> lines, long firstLine, long position, SymbolTable symbols) {
+        inFlight.add(CompletableFuture.supplyAsync(() -> {
+            Batch batch = parse(lines, firstLine, symbols);
+            batch.position = position;
+            return batch;
+        }, pool));
+    }
+
+    private static Batch join(CompletableFuture<Batch> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("CSV 파싱 중 오류 발생: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /*
+     * 줄 묶음을 파싱하고 검증합니다. firstLine은 첫 줄의 줄 번호입니다.
+     */
+    static Batch parse(List<String> lines, long firstLine, SymbolTable symbols) {
+        Batch batch = new Batch();
+        for (int i = 0; i < lines.size(); i++) {
+            long lineNumber = firstLine + i;
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            List<String> fields = splitCsv(line);
+            String reason = validate(fields);
+            if (reason != null) {
+                batch.rejections.add(lineNumber + ": " + reason + ": " + line);
+                continue;
+            }
+            boolean hasScores = fields.size() == 7
+                    && !(fields.get(4).isEmpty() && fields.get(5).isEmpty() && fields.get(6).isEmpty());
+            batch.records.add(new Record(lineNumber,
+                    symbols.intern(fields.get(0)), symbols.intern(fields.get(1)),
+                    symbols.intern(fields.get(2)), symbols.intern(fields.get(3)), hasScores,
+                    hasScores ? score(fields.get(4)) : 0, hasScores ? score(fields.get(5)) : 0,
+                    hasScores ? score(fields.get(6)) : 0));
+        }
+        return batch;
+    }
+
+    /*
+     * 필드를 검증하고, 잘못된 경우 거부 사유를 반환합니다.
+     */
+    private static String validate(List<String> fields) {
+        if (fields == null) {
+            return "닫히지 않은 따옴표";
+        }
+        if (fields.size() != 4 && fields.size() != 7) {
+            return "필드 수가 잘못됨 (" + fields.size() + "개)";
+        }
+        for (int i = 0; i < 4; i++) {
+            if (fields.get(i).isEmpty()) {
+                return "빈 필드 (" + (i + 1) + "번째)";
+            }
+        }
+        for (String field : fields) {
+            if (field.indexOf('|') >= 0 || field.indexOf('\0') >= 0) {
+                return "사용할 수 없는 문자 포함";
+            }
+        }
+        for (int i = 4; i < fields.size(); i++) {
+            String field = fields.get(i);
+            if (field.isEmpty()) {
+                continue;
+            }
+            try {
+                int value = Integer.parseInt(field);
+                if (value < 0 || value > MAX_SCORE) {
+                    return "점수 범위 초과 (" + field + ")";
+                }
+            } catch (NumberFormatException e) {
+                return "숫자가 아닌 점수 (" + field + ")";
+            }
+        }
+        return null;
+    }
+
+    private static int score(String field) {
+        return field.isEmpty() ? 0 : Integer.parseInt(field);
+    }
+
+    /*
+     * CSV 한 줄을 필드로 나눕니다. 따옴표 밖의 앞뒤 공백은 제거합니다.
+     * 따옴표가 닫히지 않았으면 null을 반환합니다.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(7);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                wasQuoted = true;
+                field.setLength(0); // 따옴표 앞의 공백은 버립니다.
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted) {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+        return fields;
+    }
+
+    // ===== 반영 (저장소를 사용하는 스레드) =====
+
+    /*
+     * 묶음을 저장소에 반영합니다. 화면에서는 이벤트 디스패치 스레드에서 호출해야 합니다.
+     *
+     * @throws IOException 거부 목록 파일에 쓸 수 없는 경우
+     */
+    public void apply(Batch batch) throws IOException {
+        for (String rejection : batch.rejections) {
+            reject(rejection);
+        }
+        for (Record record : batch.records) {
+            Lecture lecture = repository.findLecture(record.lectureName);
+            if (lecture == null) {
+                reject(record.line + ": 등록되지 않은 강의: " + record.lectureName);
+                continue;
+            }
+            if (!lecture.getYear().equals(record.year)) {
+                reject(record.line + ": 강의의 기준년도와 다름: " + record.year
+                        + " (" + record.lectureName + ": " + lecture.getYear() + ")");
+                continue;
+            }
+
+            Student enrollment = repository.findEnrollment(record.lectureName, record.studentName);
+            if (enrollment == null) {
+                enrollment = new Student(repository.getStudents().size() + 1, record.lectureName, record.year,
+                                         record.studentName, record.studentId);
+                repository.addStudent(enrollment);
+                enrolled++;
+            }
+            if (!record.hasScores) {
+                continue;
+            }
+
+            Grade existingGrade = repository.findGrade(record.lectureName, record.studentName);
+            if (existingGrade != null) {
+                repository.updateGrade(existingGrade, record.midterm, record.finalExam, record.assignment);
+                gradesUpdated++;
+            } else {
+                repository.addGrade(repository.getGrades().size() + 1, record.lectureName, enrollment.getYear(),
+                                    record.studentName, record.midterm, record.finalExam, record.assignment);
+                gradesAdded++;
+            }
+        }
+    }
+
+    private void reject(String rejection) throws IOException {
+        rejected++;
+        if (sampleRejections.size() < MAX_SAMPLE_REJECTIONS) {
+            sampleRejections.add(rejection);
+        }
+        if (rejectWriter == null) {
+            rejectWriter = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8);
+        }
+        rejectWriter.write(rejection);
+        rejectWriter.write('\n');
+    }
+
+    /*
+     * 거부 목록 파일을 닫습니다.
+     *
+     * @throws IOException 파일을 닫는 중 오류가 발생한 경우
+     */
+    public void close() throws IOException {
+        if (rejectWriter != null) {
+            rejectWriter.close();
+            rejectWriter = null;
+        }
+    }
+
+    public int getRejectedCount() {
+        return rejected;
+    }
+
+    /*
+     * 가져오기 결과 요약을 반환합니다.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append("수강 등록: ").append(enrolled).append("건\n")
+               .append("성적 추가: ").append(gradesAdded).append("건\n")
+               .append("성적 수정: ").append(gradesUpdated).append("건\n")
+               .append("거부: ").append(rejected).append("건");
+        if (rejected > 0) {
+            summary.append(" (").append(rejectFile.getFileName()).append(")");
+            for (String rejection : sampleRejections) {
+                summary.append("\n  ").append(rejection);
+            }
+            if (rejected > sampleRejections.size()) {
+                summary.append("\n  ...");
+            }
+        }
+        return summary.toString();
+    }
+
+    /*
+     * 읽은 바이트 수를 세는 입력 스트림입니다. 진행률 표시에 사용합니다.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+
+    // ===== 명령행 =====
+
+    /*
+     * 화면 없이 CSV를 가져오는 진입점입니다.
+     * 현재 폴더의 data.bin(또는 data.txt)과 data.journal을 읽고, CSV를 반영한 뒤
+     * 변경을 저널에 기록합니다. 다음 실행 시 프로그램이 저널을 다시 적용합니다.
+     * BatchMain의 import 명령과 같습니다.
+     *
+     * 사용법: java -Djava.awt.headless=true CsvImporter <CSV 파일>
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.err.println("사용법: java CsvImporter <CSV 파일>");
+            System.exit(2);
+        }
+        BatchMain.main(new String[] {"import", args[0]});
+    }
+}
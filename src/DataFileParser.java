@@ -0,0 +1,221 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * data.txt 파일을 읽는 파서 클래스입니다.
+ * 파일을 메모리 매핑하여 바이트 단위로 '|' 구분자와 줄바꿈을 찾고,
+ * 정수 필드는 중간 문자열 없이 바이트에서 바로 변환합니다.
+ * 문자열 필드는 UTF-8로 디코딩합니다.
+ *
+ * 파일 형식은 기존과 같습니다.
+ * #LECTURES  id|기준년도|강의명|시간
+ * #STUDENTS  id|강의명|기준년도|이름|학번
+ * #GRADES    id|강의명|기준년도|학생명|중간|기말|과제|총점|평균 (총점, 평균은 읽지 않고 다시 계산)
+ */
+class DataFileParser {
+    /*
+     * 파싱된 레코드를 전달받는 인터페이스입니다.
+     */
+    interface Handler {
+        void lecture(int id, String year, String name, String time);
+        void student(int id, String lectureName, String year, String name, String studentId);
+        void grade(int id, String lectureName, String year, String studentName, int midterm, int finalExam, int assignment);
+
+        // 새 섹션(#LECTURES 등)이 시작될 때 호출됩니다.
+        default void section(String name) {}
+
+        // 주기적으로 진행 위치(바이트)를 알립니다.
+        default void progress(long position, long size) {}
+
+        // true를 반환하면 파싱을 중단합니다.
+        default boolean isCancelled() { return false; }
+    }
+
+    private static final int SECTION_NONE = 0, SECTION_LECTURES = 1, SECTION_STUDENTS = 2, SECTION_GRADES = 3;
+    private static final int MAX_WINDOW = 1 << 30;      // 한 번에 매핑하는 최대 크기 (1GB)
+    private static final int MAX_FIELDS = 9;
+    private static final int PROGRESS_INTERVAL = 1 << 16; // 진행률을 알리는 줄 간격
+
+    private final int[] fieldStart = new int[MAX_FIELDS];
+    private final int[] fieldEnd = new int[MAX_FIELDS];
+    private byte[] scratch = new byte[128];
+
+    private MappedByteBuffer buffer;
+    private int section = SECTION_NONE;
+    private long lineNumber;
+
+    /*
+     * 파일을 파싱하여 각 레코드를 handler에 전달합니다.
+     * 1GB보다 큰 파일은 줄 경계에 맞춰 여러 구간으로 나누어 매핑합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public void parse(Path path, Handler handler) throws IOException {
+        section = SECTION_NONE;
+        lineNumber = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size && !handler.isCancelled()) {
+                long length = Math.min(MAX_WINDOW, size - position);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int limit = (int) length;
+                if (position + length < size) {
+                    // 구간이 줄 중간에서 끝나지 않도록 마지막 줄바꿈까지만 처리합니다.
+                    limit = lastLineEnd(limit);
+                }
+                int start = position == 0 ? skipBom(limit) : 0;
+                parseWindow(start, limit, position, size, handler);
+                position += limit;
+            }
+            handler.progress(position, size);
+        } finally {
+            buffer = null;
+        }
+    }
+
+    private int lastLineEnd(int limit) throws IOException {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        throw new IOException("한 줄의 길이가 너무 깁니다.");
+    }
+
+    private int skipBom(int limit) {
+        if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private void parseWindow(int start, int limit, long base, long size, Handler handler) throws IOException {
+        int lineStart = start;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            lineNumber++;
+            parseLine(lineStart, lineEnd, handler);
+
+            if ((lineNumber & (PROGRESS_INTERVAL - 1)) == 0) {
+                if (handler.isCancelled()) {
+                    return;
+                }
+                handler.progress(base + next, size);
+            }
+            lineStart = next;
+        }
+    }
+
+    private void parseLine(int start, int end, Handler handler) throws IOException {
+        if (start == end) {
+            return; // 빈 줄은 무시합니다.
+        }
+        if (buffer.get(start) == '#') {
+            String name = string(start, end);
+            switch (name) {
+                case "#LECTURES": section = SECTION_LECTURES; break;
+                case "#STUDENTS": section = SECTION_STUDENTS; break;
+                case "#GRADES": section = SECTION_GRADES; break;
+                default: section = SECTION_NONE; break;
+            }
+            handler.section(name);
+            return;
+        }
+        if (section == SECTION_NONE) {
+            return;
+        }
+
+        int fields = split(start, end);
+        switch (section) {
+            case SECTION_LECTURES:
+                require(fields, 4);
+                handler.lecture(integer(0), field(1), field(2), field(3));
+                break;
+            case SECTION_STUDENTS:
+                require(fields, 5);
+                handler.student(integer(0), field(1), field(2), field(3), field(4));
+                break;
+            case SECTION_GRADES:
+                require(fields, 7);
+                handler.grade(integer(0), field(1), field(2), field(3), integer(4), integer(5), integer(6));
+                break;
+        }
+    }
+
+    /*
+     * 한 줄을 '|' 기준으로 나누어 각 필드의 시작과 끝 위치를 기록합니다.
+     * MAX_FIELDS를 넘는 필드는 마지막 필드에 포함됩니다.
+     */
+    private int split(int start, int end) {
+        int count = 0;
+        int fieldBegin = start;
+        for (int i = start; i < end && count < MAX_FIELDS - 1; i++) {
+            if (buffer.get(i) == '|') {
+                fieldStart[count] = fieldBegin;
+                fieldEnd[count] = i;
+                count++;
+                fieldBegin = i + 1;
+            }
+        }
+        fieldStart[count] = fieldBegin;
+        fieldEnd[count] = end;
+        return count + 1;
+    }
+
+    private void require(int fields, int expected) throws IOException {
+        if (fields < expected) {
+            throw new IOException(lineNumber + "번째 줄의 필드 수가 부족합니다.");
+        }
+    }
+
+    private String field(int index) {
+        return string(fieldStart[index], fieldEnd[index]);
+    }
+
+    private String string(int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * 필드의 바이트를 문자열로 만들지 않고 바로 정수로 변환합니다.
+     */
+    private int integer(int index) throws IOException {
+        int start = fieldStart[index], end = fieldEnd[index];
+        boolean negative = start < end && buffer.get(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (i == end || end - i > 10) {
+            throw new IOException(lineNumber + "번째 줄에 올바르지 않은 숫자가 있습니다.");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IOException(lineNumber + "번째 줄에 올바르지 않은 숫자가 있습니다.");
+            }
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IOException(lineNumber + "번째 줄에 올바르지 않은 숫자가 있습니다.");
+        }
+        return (int) value;
+    }
+}
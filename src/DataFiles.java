@@ -0,0 +1,161 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * 데이터 파일(data.bin 또는 data.txt와 data.journal)을 화면 없이 읽고 쓰는 클래스입니다.
+ * 명령행 도구처럼 Swing을 쓰지 않는 곳에서 저장소를 한 번에 채우거나 저장할 때 사용합니다.
+ * 화면에서는 같은 순서로 DataLoadWorker가 백그라운드에서 읽습니다.
+ */
+class DataFiles {
+    static final String TEXT_NAME = "data.txt";
+    static final String SNAPSHOT_NAME = "data.bin"; // 이진 스냅샷 파일
+    static final String JOURNAL_NAME = "data.journal"; // 변경 내역 저널 파일
+    static final String ARCHIVE_NAME = "data.archive"; // 지난 연도 보관 파일 (GradeArchive)
+
+    private DataFiles() {}
+
+    /*
+     * 스냅샷(없으면 텍스트 파일)을 읽어 저장소를 채우고,
+     * 이후에 기록된 저널을 다시 적용한 뒤 저널을 열어 저장소에 연결합니다.
+     * 스냅샷에서 읽었으면 true를 반환합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public static boolean load(DataRepository repository, Path snapshot, Path text, ChangeJournal journal) throws IOException {
+        long sequence = read(repository, snapshot, text, journal);
+        journal.open(sequence + 1);
+        repository.setJournal(journal);
+        return Files.exists(snapshot);
+    }
+
+    /*
+     * load()와 같은 순서로 저장소를 채우지만 저널을 열지 않습니다.
+     * 조회만 하는 명령처럼 파일을 바꾸지 않을 때 사용합니다.
+     * 마지막으로 적용한 저널 일련번호를 반환합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public static long read(DataRepository repository, Path snapshot, Path text, ChangeJournal journal) throws IOException {
+        repository.setJournal(null);
+        repository.clear();
+        SymbolTable symbols = repository.getSymbols();
+        DataFileParser.Handler handler = new DataFileParser.Handler() {
+            @Override
+            public void lecture(int id, String year, String name, String time) {
+                repository.addLecture(new Lecture(id, symbols.intern(year), symbols.intern(name), symbols.intern(time)));
+            }
+
+            @Override
+            public void student(int id, String lectureName, String year, String name, String studentId) {
+                repository.addStudent(new Student(id, symbols.intern(lectureName), symbols.intern(year),
+                                                  symbols.intern(name), symbols.intern(studentId)));
+            }
+
+            @Override
+            public void grade(int id, String lectureName, String year, String studentName, int midterm, int finalExam, int assignment) {
+                repository.addGrade(id, lectureName, year, studentName, midterm, finalExam, assignment);
+            }
+        };
+
+        long sequence = 0;
+        if (Files.exists(snapshot)) {
+            sequence = SnapshotFile.read(snapshot, handler);
+        } else if (Files.exists(text)) {
+            new DataFileParser().parse(text, handler);
+        }
+
+        List<ChangeJournal.Entry> entries = readJournal(Arrays.asList(journal.getRotatedFile(), journal.getFile()), sequence);
+        for (ChangeJournal.Entry entry : entries) {
+            entry.apply(repository);
+        }
+        return entries.isEmpty() ? sequence : entries.get(entries.size() - 1).sequence;
+    }
+
+    /*
+     * 저널 파일들을 순서대로 읽어 일련번호가 afterSequence보다 큰 레코드를 반환합니다.
+     * 압축 중이던 data.journal.1과 data.journal에 같은 레코드가 있으면 한 번만 포함합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없는 경우
+     */
+    public static List<ChangeJournal.Entry> readJournal(List<Path> files, long afterSequence) throws IOException {
+        List<ChangeJournal.Entry> entries = new ArrayList<>();
+        for (Path file : files) {
+            for (ChangeJournal.Entry entry : ChangeJournal.read(file, afterSequence)) {
+                if (entries.isEmpty() || entry.sequence > entries.get(entries.size() - 1).sequence) {
+                    entries.add(entry);
+                }
+            }
+        }
+        return entries;
+    }
+
+    // ===== 저장 =====
+
+    /*
+     * 저널을 이진 스냅샷으로 압축합니다. (ManagementApp.compact()를 한 스레드에서 하는 것과 같음)
+     * 저널을 data.journal.1로 옮기고 스냅샷을 저장한 뒤 옮겨 둔 저널을 지웁니다.
+     * journal은 load()로 열려 있어야 합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static void compact(DataRepository repository, ChangeJournal journal, Path snapshot) throws IOException {
+        long sequence = journal.lastSequence();
+        journal.rotate();
+        AtomicFileWriter.write(snapshot, temp -> SnapshotFile.write(temp, sequence,
+                repository.getLectures(), repository.getStudents(), repository.getGradeStore()));
+        journal.finishCompaction();
+    }
+
+    /*
+     * 기준년도 하나를 보관 파일로 옮깁니다.
+     * 보관 파일을 먼저 교체한 뒤 저장소에서 그 연도를 지우고 스냅샷으로 압축합니다.
+     * 중간에 종료되어 두 곳에 같은 연도가 남으면 저장소의 내용이 우선하며, 다시 보관하면 보관 파일의 내용이 바뀝니다.
+     * journal은 load()로 열려 있어야 합니다. 옮긴 강의 수를 반환합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static int archiveYear(DataRepository repository, ChangeJournal journal, Path snapshot,
+                                  Path archive, String year) throws IOException {
+        AtomicFileWriter.write(archive, temp -> GradeArchive.write(temp, archive, year,
+                repository.getLectures(), repository.getStudents(), repository.getGradeStore()));
+        int removed = repository.removeYear(year);
+        compact(repository, journal, snapshot);
+        return removed;
+    }
+
+    /*
+     * 강의, 학생, 성적 목록을 텍스트 형식(data.txt)으로 파일에 씁니다.
+     * #LECTURES, #STUDENTS, #GRADES 섹션으로 나누고 한글이 깨지지 않도록 UTF-8로 저장합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static void writeText(Path path, List<Lecture> lectures, List<Student> students, GradeStore grades) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            // 강의 저장
+            writer.write("#LECTURES\n");
+            for (Lecture lecture : lectures) {
+                writer.write(lecture.getId() + "|" + lecture.getYear() + "|" + lecture.getName() + "|" + lecture.getTime() + "\n");
+            }
+
+            // 학생 저장
+            writer.write("#STUDENTS\n");
+            for (Student student : students) {
+                writer.write(student.getId() + "|" + student.getLectureName() + "|" + student.getYear() + "|" + student.getName() + "|" + student.getStudentId() + "\n");
+            }
+
+            // 성적 저장
+            writer.write("#GRADES\n");
+            for (int row = 0; row < grades.size(); row++) {
+                writer.write(grades.getId(row) + "|" + grades.getLectureName(row) + "|" + grades.getYear(row) + "|" + grades.getStudentName(row) +
+                             "|" + grades.getMidterm(row) + "|" + grades.getFinalExam(row) + "|" + grades.getAssignment(row) +
+                             "|" + grades.getTotal(row) + "|" + grades.getAverage(row) + "\n");
+            }
+        }
+    }
+}
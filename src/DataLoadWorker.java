@@ -0,0 +1,217 @@
+import javax.swing.*;
+import java.io.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 데이터 파일을 백그라운드 스레드에서 읽어오는 클래스입니다.
+ * 파일 파싱은 DataFileParser(data.txt) 또는 SnapshotFile(data.bin)이 담당하며,
+ * 읽은 레코드는 CHUNK_SIZE 단위로 묶어 이벤트 디스패치 스레드에 전달하고,
+ * 이벤트 디스패치 스레드에서 저장소에 추가한 뒤 해당 테이블만 갱신합니다.
+ * 파일은 강의, 학생, 성적 순서로 저장되어 있으므로
+ * 성적을 읽는 동안에도 이미 로드된 강의 탭을 사용할 수 있습니다.
+ *
+ * 읽은 문자열은 백그라운드 스레드에서 저장소의 대표 문자열로 바꾸므로
+ * 같은 강의명, 학생 이름 등이 묶음마다 따로 남지 않습니다.
+ *
+ * 저널 파일이 주어지면 파일 이후의 변경 레코드도 백그라운드에서 읽어 두며,
+ * 메인 애플리케이션이 로드 완료 시 이를 다시 적용합니다.
+ */
+class DataLoadWorker extends SwingWorker<Void, DataLoadWorker.Chunk> {
+    private static final int CHUNK_SIZE = 5000;
+
+    private final ManagementApp app;
+    private final File file;       // null이면 저널만 읽습니다.
+    private final List<Path> journalFiles;
+
+    private boolean snapshotSource; // 이진 스냅샷에서 읽었는지 여부
+    private long snapshotSequence; // 파일에 반영된 마지막 저널 일련번호
+    private final List<ChangeJournal.Entry> journalEntries = new ArrayList<>();
+
+    // publish는 타이머로 모아서 처리되므로 done()이 마지막 process()보다 먼저 불릴 수 있습니다.
+    // 전달한 묶음 수와 반영한 묶음 수를 비교하여 모두 반영된 뒤에 완료를 알립니다.
+    private volatile int publishedChunks;
+    private int processedChunks;
+    private boolean finished;
+
+    /*
+     * 이벤트 디스패치 스레드로 전달되는 레코드 묶음입니다.
+     */
+    static class Chunk {
+        final List<Lecture> lectures = new ArrayList<>();
+        final List<Student> students = new ArrayList<>();
+        // 성적은 객체를 만들지 않고 필드 값만 모아 둡니다.
+        // 정수 필드는 성적마다 (id, 중간, 기말, 과제), 문자열 필드는 (강의명, 기준년도, 학생명) 순서입니다.
+        final IntList gradeNumbers = new IntList(4 * CHUNK_SIZE);
+        final List<String> gradeNames = new ArrayList<>(3 * CHUNK_SIZE);
+
+        int gradeCount() {
+            return gradeNumbers.size() / 4;
+        }
+
+        int size() {
+            return lectures.size() + students.size() + gradeCount();
+        }
+    }
+
+    public DataLoadWorker(ManagementApp app, File file, List<Path> journalFiles) {
+        this.app = app;
+        this.file = file;
+        this.journalFiles = journalFiles;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /*
+     * 이진 스냅샷 파일에서 읽었는지 반환합니다. (완료 후에만 호출)
+     */
+    public boolean isSnapshotSource() {
+        return snapshotSource;
+    }
+
+    /*
+     * 파일 이후에 기록된 저널 레코드를 반환합니다. (완료 후에만 호출)
+     */
+    public List<ChangeJournal.Entry> getJournalEntries() {
+        return journalEntries;
+    }
+
+    /*
+     * 다시 적용할 저널까지 포함한 마지막 일련번호를 반환합니다. (완료 후에만 호출)
+     */
+    public long getLastSequence() {
+        return journalEntries.isEmpty() ? snapshotSequence : journalEntries.get(journalEntries.size() - 1).sequence;
+    }
+
+    /*
+     * 백그라운드 스레드에서 파일을 읽는 메소드입니다.
+     *
+     * @throws IOException 파일 로드 중 오류가 발생한 경우
+     */
+    @Override
+    protected Void doInBackground() throws IOException {
+        SymbolTable symbols = app.getRepository().getSymbols();
+        DataFileParser.Handler handler = new DataFileParser.Handler() {
+            private Chunk chunk = new Chunk();
+
+            @Override
+            public void lecture(int id, String year, String name, String time) {
+                chunk.lectures.add(new Lecture(id, symbols.intern(year), symbols.intern(name), symbols.intern(time)));
+                flushIfFull();
+            }
+
+            @Override
+            public void student(int id, String lectureName, String year, String name, String studentId) {
+                chunk.students.add(new Student(id, symbols.intern(lectureName), symbols.intern(year),
+                                               symbols.intern(name), symbols.intern(studentId)));
+                flushIfFull();
+            }
+
+            @Override
+            public void grade(int id, String lectureName, String year, String studentName, int midterm, int finalExam, int assignment) {
+                chunk.gradeNumbers.add(id);
+                chunk.gradeNumbers.add(midterm);
+                chunk.gradeNumbers.add(finalExam);
+                chunk.gradeNumbers.add(assignment);
+                chunk.gradeNames.add(symbols.intern(lectureName));
+                chunk.gradeNames.add(symbols.intern(year));
+                chunk.gradeNames.add(symbols.intern(studentName));
+                flushIfFull();
+            }
+
+            // 섹션이 바뀌면 이전 섹션을 먼저 화면에 반영합니다.
+            @Override
+            public void section(String name) {
+                flush();
+            }
+
+            @Override
+            public void progress(long position, long size) {
+                flush();
+                setProgress((int) Math.min(99, position * 100 / Math.max(1, size)));
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return DataLoadWorker.this.isCancelled();
+            }
+
+            private void flushIfFull() {
+                if (chunk.size() >= CHUNK_SIZE) {
+                    flush();
+                }
+            }
+
+            private void flush() {
+                if (chunk.size() > 0) {
+                    send(chunk);
+                    chunk = new Chunk();
+                }
+            }
+        };
+
+        // 파일 헤더로 이진 스냅샷과 텍스트 형식을 구분합니다.
+        if (file == null) {
+            snapshotSequence = 0;
+        } else if (SnapshotFile.isSnapshot(file.toPath())) {
+            snapshotSource = true;
+            snapshotSequence = SnapshotFile.read(file.toPath(), handler);
+        } else {
+            new DataFileParser().parse(file.toPath(), handler);
+        }
+
+        // 스냅샷 이후의 저널 레코드 (압축 중이던 data.journal.1, data.journal 순서)
+        journalEntries.addAll(DataFiles.readJournal(journalFiles, snapshotSequence));
+        return null;
+    }
+
+    private void send(Chunk chunk) {
+        publishedChunks++;
+        publish(chunk);
+    }
+
+    /*
+     * 이벤트 디스패치 스레드에서 레코드 묶음을 저장소에 추가합니다.
+     */
+    @Override
+    protected void process(List<Chunk> chunks) {
+        DataRepository repository = app.getRepository();
+        repository.beginBatch(); // 테이블과 콤보박스는 묶음이 끝날 때 한 번만 갱신됩니다.
+        try {
+            for (Chunk chunk : chunks) {
+                chunk.lectures.forEach(repository::addLecture);
+                chunk.students.forEach(repository::addStudent);
+                for (int i = 0; i < chunk.gradeCount(); i++) {
+                    repository.addGrade(chunk.gradeNumbers.get(4 * i), chunk.gradeNames.get(3 * i),
+                            chunk.gradeNames.get(3 * i + 1), chunk.gradeNames.get(3 * i + 2),
+                            chunk.gradeNumbers.get(4 * i + 1), chunk.gradeNumbers.get(4 * i + 2), chunk.gradeNumbers.get(4 * i + 3));
+                }
+            }
+        } finally {
+            repository.endBatch();
+        }
+
+        processedChunks += chunks.size();
+        if (isDone()) {
+            finish();
+        }
+    }
+
+    /*
+     * 로드가 끝나면 (성공, 실패, 취소 모두) 메인 애플리케이션에 알립니다.
+     */
+    @Override
+    protected void done() {
+        finish();
+    }
+
+    private void finish() {
+        if (!finished && (isCancelled() || processedChunks >= publishedChunks)) {
+            finished = true;
+            app.finishLoading(this);
+        }
+    }
+}
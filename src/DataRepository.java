@@ -0,0 +1,516 @@
+import java.util.*;
+
+/*
+ * 강의, 학생, 성적 데이터를 보관하는 저장소 클래스입니다.
+ * 리스트와 함께 해시 인덱스를 유지하여 조회를 O(1)/O(k)로 처리합니다.
+ * 모든 추가/삭제는 이 클래스를 통해야 인덱스가 일관되게 유지됩니다.
+ * 저널이 연결되어 있으면 모든 변경을 저널에도 기록하고,
+ * 변경이 생길 때마다 등록된 리스너에 알립니다.
+ * 행 리스너(RowListener)에는 바뀐 목록과 행 번호를 알리므로 화면은 바뀐 행만 다시 그립니다.
+ * 파일 로드와 가져오기처럼 변경이 많을 때는 beginBatch()/endBatch()로 묶어 목록마다 한 번만 알립니다.
+ *
+ * 인덱스 목록
+ * - 강의명 -> 강의
+ * - 기준년도 -> 강의 목록
+ * - 강의명 -> 수강 학생 목록
+ * - 학생 이름 -> 학생 목록, 학번 -> 학생 목록 (정렬된 맵이므로 앞부분(prefix) 검색에도 사용)
+ * - (강의명, 학생 이름) -> 학생(수강 정보)
+ * 성적은 GradeStore에 열 단위로 보관하며 성적 인덱스도 GradeStore가 관리합니다.
+ *
+ * 삭제는 외래 키 인덱스(강의 -> 수강 학생 -> 성적, 학생 이름 -> 수강 정보 -> 성적)로
+ * 지울 항목만 찾아 처리하므로 전체 목록을 훑지 않습니다.
+ * 학생 목록은 각 학생이 자신의 위치를 기억하고, 지운 자리에 마지막 학생을 옮겨 채웁니다.
+ *
+ * 강의명, 기준년도, 학생 이름 등 반복되는 문자열은 하나의 SymbolTable을 공유합니다.
+ * 로더와 입력 대화상자는 intern()으로 대표 문자열을 받아 객체를 만들므로
+ * 같은 이름은 메모리에 한 번만 저장되고, 인덱스 조회 시 equals가 == 비교로 끝납니다.
+ *
+ * 변경과 조회는 한 스레드(화면에서는 이벤트 디스패치 스레드)에서만 합니다.
+ * 다른 스레드(자동 저장, 내보내기, 분석, HTTP 서버)는 snapshot()으로 만든 읽기 전용 스냅샷을 읽으므로
+ * 변경하는 스레드를 막지 않고, 읽는 도중 데이터가 바뀌지도 않습니다.
+ * 학생 목록(SnapshotList)과 성적 열(IntColumn)은 조각 단위로 공유하므로 스냅샷을 만드는 비용은 작습니다.
+ */
+class DataRepository {
+    private final List<Lecture> lectures = new ArrayList<>();
+    private final SnapshotList<Student> students = new SnapshotList<>();
+    private final SymbolTable symbols = new SymbolTable();
+    private final GradeStore grades = new GradeStore(symbols);
+
+    private final Map<String, Lecture> lectureByName = new HashMap<>();
+    private final Map<String, List<Lecture>> lecturesByYear = new LinkedHashMap<>();
+    private final Map<String, List<Student>> studentsByLecture = new HashMap<>();
+    private final NavigableMap<String, List<Student>> studentsByName = new TreeMap<>();
+    private final NavigableMap<String, List<Student>> studentsByStudentId = new TreeMap<>();
+    private final Map<String, Student> enrollmentByKey = new HashMap<>();
+
+    private ChangeJournal journal; // 변경 내역 기록 (파일 로드 중에는 연결하지 않음)
+    private final List<Runnable> changeListeners = new ArrayList<>();
+    private final List<RowListener> rowListeners = new ArrayList<>();
+    private int batchDepth; // beginBatch() 중첩 횟수
+    private final boolean[] batchChanged = new boolean[3]; // 묶음 중에 바뀐 목록
+    private boolean batchDataChanged; // 묶음 중에 변경 리스너 알림을 미뤘는지 여부
+    private boolean snapshotStale = true; // 마지막 스냅샷 이후 변경이 있었는지 여부
+    private volatile DataSnapshot latestSnapshot;
+
+    /*
+     * 두 문자열을 합쳐 복합 키를 만듭니다.
+     * 구분자로 데이터에 나올 수 없는 '\0' 문자를 사용합니다.
+     */
+    static String key(String first, String second) {
+        return first + '\0' + second;
+    }
+
+    /*
+     * 같은 내용의 대표 문자열을 반환합니다. 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public String intern(String value) {
+        return symbols.intern(value);
+    }
+
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    /*
+     * 변경 내역을 기록할 저널을 연결합니다. null이면 기록하지 않습니다.
+     */
+    public void setJournal(ChangeJournal journal) {
+        this.journal = journal;
+    }
+
+    /*
+     * 현재 데이터의 읽기 전용 스냅샷을 만들어 반환합니다. 수정하는 스레드에서만 호출합니다.
+     * 마지막 스냅샷 이후 변경이 없으면 그 스냅샷을 그대로 반환합니다.
+     * 만든 스냅샷은 latestSnapshot()으로 다른 스레드에 공개됩니다.
+     */
+    public DataSnapshot snapshot() {
+        if (snapshotStale || latestSnapshot == null) {
+            latestSnapshot = new DataSnapshot(new ArrayList<>(lectures), students.snapshot(), grades.snapshot());
+            snapshotStale = false;
+        }
+        return latestSnapshot;
+    }
+
+    /*
+     * 마지막으로 만든 스냅샷을 반환합니다. 어느 스레드에서든 호출할 수 있으며 잠금을 잡지 않습니다.
+     * 최신 변경이 반영되지 않았을 수 있습니다. 한 번도 만들지 않았으면 빈 스냅샷을 반환합니다.
+     */
+    public DataSnapshot latestSnapshot() {
+        DataSnapshot snapshot = latestSnapshot;
+        return snapshot != null ? snapshot : new DataSnapshot(new ArrayList<>(), new ArrayList<>(), new GradeStore(symbols).snapshot());
+    }
+
+    /*
+     * 데이터가 변경될 때마다 호출될 리스너를 등록합니다.
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    private void fireChanged() {
+        snapshotStale = true;
+        if (batchDepth > 0) {
+            batchDataChanged = true;
+            return;
+        }
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    // ===== 행 변경 알림 =====
+
+    static final int LECTURES = 0; // 강의 목록 (getLectures)
+    static final int STUDENTS = 1; // 학생 목록 (getStudents)
+    static final int GRADES = 2;   // 성적 행 (getGradeStore)
+
+    static final int INSERTED = 0;
+    static final int UPDATED = 1;
+    static final int DELETED = 2;
+    static final int ALL_CHANGED = 3; // 목록 전체가 바뀜 (first, last는 사용하지 않음)
+
+    /*
+     * 목록의 행이 바뀔 때 호출되는 리스너입니다.
+     * first~last는 변경 후(삭제는 삭제 전)의 행 번호로, 테이블 모델의 fireTableRows*에 그대로 전달할 수 있습니다.
+     * 학생과 성적의 삭제는 마지막 행을 빈 자리로 옮기므로 옮겨진 자리의 UPDATED와 마지막 행의 DELETED로 알립니다.
+     */
+    interface RowListener {
+        void rowsChanged(int list, int type, int first, int last);
+    }
+
+    public void addRowListener(RowListener listener) {
+        rowListeners.add(listener);
+    }
+
+    /*
+     * 변경 묶음을 시작합니다. endBatch()까지의 행 변경은 하나씩 알리지 않고
+     * 끝날 때 바뀐 목록마다 ALL_CHANGED로 한 번만 알립니다. 변경 리스너도 끝날 때 한 번만 호출합니다.
+     * 중첩할 수 있습니다.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    public void endBatch() {
+        if (--batchDepth > 0) {
+            return;
+        }
+        for (int list = 0; list < batchChanged.length; list++) {
+            if (batchChanged[list]) {
+                batchChanged[list] = false;
+                fireRows(list, ALL_CHANGED, 0, -1);
+            }
+        }
+        if (batchDataChanged) {
+            batchDataChanged = false;
+            fireChanged();
+        }
+    }
+
+    private void fireRows(int list, int type, int first, int last) {
+        if (batchDepth > 0) {
+            batchChanged[list] = true;
+            return;
+        }
+        for (RowListener listener : rowListeners) {
+            listener.rowsChanged(list, type, first, last);
+        }
+    }
+
+    /*
+     * 모든 데이터와 인덱스를 비웁니다.
+     */
+    public void clear() {
+        snapshotStale = true;
+        lectures.clear();
+        students.clear();
+        grades.clear();
+        lectureByName.clear();
+        lecturesByYear.clear();
+        studentsByLecture.clear();
+        studentsByName.clear();
+        studentsByStudentId.clear();
+        enrollmentByKey.clear();
+        fireRows(LECTURES, ALL_CHANGED, 0, -1);
+        fireRows(STUDENTS, ALL_CHANGED, 0, -1);
+        fireRows(GRADES, ALL_CHANGED, 0, -1);
+    }
+
+    // ===== 강의 =====
+
+    public void addLecture(Lecture lecture) {
+        lectures.add(lecture);
+        lectureByName.put(lecture.getName(), lecture);
+        lecturesByYear.computeIfAbsent(lecture.getYear(), k -> new ArrayList<>()).add(lecture);
+        if (journal != null) {
+            journal.lectureAdded(lecture);
+        }
+        fireRows(LECTURES, INSERTED, lectures.size() - 1, lectures.size() - 1);
+        fireChanged();
+    }
+
+    public boolean hasLecture(String lectureName) {
+        return lectureByName.containsKey(lectureName);
+    }
+
+    public Lecture findLecture(String lectureName) {
+        return lectureByName.get(lectureName);
+    }
+
+    public List<Lecture> getLecturesByYear(String year) {
+        return unmodifiable(lecturesByYear.get(year));
+    }
+
+    /*
+     * 강의가 존재하는 기준년도 목록을 반환합니다. (처음 등록된 순서)
+     */
+    public Set<String> getYears() {
+        return Collections.unmodifiableSet(lecturesByYear.keySet());
+    }
+
+    /*
+     * 강의를 삭제하는 메소드입니다.
+     * 해당 강의의 수강 학생과 성적도 함께 삭제합니다.
+     * 수강 학생과 성적은 여러 행이 한꺼번에 바뀌므로 목록 전체의 변경으로 알립니다.
+     */
+    public void removeLecture(String lectureName) {
+        Lecture lecture = lectureByName.remove(lectureName);
+        if (lecture == null) {
+            return;
+        }
+        if (journal != null) {
+            journal.lectureRemoved(lectureName);
+        }
+        int index = lectures.indexOf(lecture);
+        lectures.remove(index);
+        removeFromIndex(lecturesByYear, lecture.getYear(), lecture);
+        fireRows(LECTURES, DELETED, index, index);
+
+        List<Student> enrolled = studentsByLecture.remove(lectureName);
+        if (enrolled != null) {
+            beginBatch();
+            for (Student student : enrolled) {
+                removeFromList(student);
+                removeFromIndex(studentsByName, student.getName(), student);
+                removeFromIndex(studentsByStudentId, student.getStudentId(), student);
+                enrollmentByKey.remove(key(lectureName, student.getName()));
+            }
+            endBatch();
+        }
+
+        if (grades.removeLecture(lectureName) > 0) {
+            fireRows(GRADES, ALL_CHANGED, 0, -1);
+        }
+        fireChanged();
+    }
+
+    /*
+     * 기준년도의 모든 강의를 (수강 학생, 성적과 함께) 삭제하고 삭제한 강의 수를 반환합니다.
+     * 보관 파일(GradeArchive)로 옮긴 연도를 저장소에서 지울 때 사용하며, 변경은 하나의 묶음으로 알립니다.
+     */
+    public int removeYear(String year) {
+        List<Lecture> removed = new ArrayList<>(getLecturesByYear(year));
+        beginBatch();
+        try {
+            for (Lecture lecture : removed) {
+                removeLecture(lecture.getName());
+            }
+        } finally {
+            endBatch();
+        }
+        return removed.size();
+    }
+
+    // ===== 학생 =====
+
+    public void addStudent(Student student) {
+        student.setPosition(students.size());
+        students.add(student);
+        studentsByLecture.computeIfAbsent(student.getLectureName(), k -> new ArrayList<>()).add(student);
+        studentsByName.computeIfAbsent(student.getName(), k -> new ArrayList<>()).add(student);
+        studentsByStudentId.computeIfAbsent(student.getStudentId(), k -> new ArrayList<>()).add(student);
+        enrollmentByKey.putIfAbsent(key(student.getLectureName(), student.getName()), student);
+        if (journal != null) {
+            journal.studentAdded(student);
+        }
+        fireRows(STUDENTS, INSERTED, student.getPosition(), student.getPosition());
+        fireChanged();
+    }
+
+    /*
+     * 학생 목록에서 학생을 지우고 마지막 학생을 그 자리로 옮깁니다. O(1)
+     */
+    private void removeFromList(Student student) {
+        int position = student.getPosition();
+        Student last = students.removeLast();
+        if (last != student) {
+            students.set(position, last);
+            last.setPosition(position);
+            fireRows(STUDENTS, UPDATED, position, position);
+        }
+        student.setPosition(-1);
+        fireRows(STUDENTS, DELETED, students.size(), students.size());
+    }
+
+    /*
+     * 강의에 등록된 학생(수강 정보)을 이름으로 찾습니다.
+     */
+    public Student findEnrollment(String lectureName, String studentName) {
+        return enrollmentByKey.get(key(lectureName, studentName));
+    }
+
+    public List<Student> getStudentsByLecture(String lectureName) {
+        return unmodifiable(studentsByLecture.get(lectureName));
+    }
+
+    public List<Student> findStudentsByName(String name) {
+        return unmodifiable(studentsByName.get(name));
+    }
+
+    public List<Student> findStudentsByStudentId(String studentId) {
+        return unmodifiable(studentsByStudentId.get(studentId));
+    }
+
+    /*
+     * 이름이나 학번이 prefix로 시작하는 학생을 최대 limit명 반환합니다. 이름이 일치하는 학생이 먼저이며 각각 사전 순입니다.
+     * lectureName이 null이 아니면 그 강의의 수강 정보만 반환합니다.
+     * 정렬된 이름, 학번 인덱스에서 prefix 구간만 읽으므로 전체 학생 수와 관계없이 결과 수에 비례합니다.
+     * (강의를 지정하면 구간 안의 다른 강의 수강 정보도 읽습니다.)
+     */
+    public List<Student> searchStudents(String prefix, String lectureName, int limit) {
+        if (prefix.isEmpty() && lectureName != null) {
+            List<Student> enrolled = getStudentsByLecture(lectureName);
+            return enrolled.subList(0, Math.min(limit, enrolled.size()));
+        }
+        List<Student> result = new ArrayList<>();
+        Set<Student> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectByPrefix(studentsByName, prefix, lectureName, limit, result, found);
+        collectByPrefix(studentsByStudentId, prefix, lectureName, limit, result, found);
+        return result;
+    }
+
+    private static void collectByPrefix(NavigableMap<String, List<Student>> index, String prefix, String lectureName,
+                                        int limit, List<Student> result, Set<Student> found) {
+        for (List<Student> bucket : index.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Student student : bucket) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                if ((lectureName == null || student.getLectureName().equals(lectureName)) && found.add(student)) {
+                    result.add(student);
+                }
+            }
+        }
+    }
+
+    /*
+     * 학생을 이름으로 삭제하는 메소드입니다.
+     * 같은 이름의 모든 수강 정보와 성적을 함께 삭제합니다.
+     */
+    public void removeStudent(String studentName) {
+        List<Student> named = studentsByName.remove(studentName);
+        if (named == null) {
+            return;
+        }
+        if (journal != null) {
+            journal.studentRemoved(studentName);
+        }
+        for (Student student : named) {
+            removeFromList(student);
+            removeFromIndex(studentsByLecture, student.getLectureName(), student);
+            removeFromIndex(studentsByStudentId, student.getStudentId(), student);
+            enrollmentByKey.remove(key(student.getLectureName(), studentName));
+        }
+
+        if (grades.removeStudent(studentName) > 0) {
+            fireRows(GRADES, ALL_CHANGED, 0, -1);
+        }
+        fireChanged();
+    }
+
+    // ===== 성적 =====
+
+    /*
+     * 성적을 추가하고 추가된 성적의 뷰를 반환합니다.
+     */
+    public Grade addGrade(int id, String lectureName, String year, String studentName,
+                          int midterm, int finalExam, int assignment) {
+        Grade grade = grades.get(grades.add(id, lectureName, year, studentName, midterm, finalExam, assignment));
+        if (journal != null) {
+            journal.gradeAdded(grade);
+        }
+        fireRows(GRADES, INSERTED, grade.getRow(), grade.getRow());
+        fireChanged();
+        return grade;
+    }
+
+    /*
+     * 기존 성적의 점수를 수정하고 총점과 평균을 다시 계산합니다.
+     */
+    public void updateGrade(Grade grade, int midterm, int finalExam, int assignment) {
+        grades.setScores(grade.getRow(), midterm, finalExam, assignment);
+        if (journal != null) {
+            journal.gradeUpdated(grade);
+        }
+        fireRows(GRADES, UPDATED, grade.getRow(), grade.getRow());
+        fireChanged();
+    }
+
+    /*
+     * 한 강의의 여러 학생 성적을 한 번에 저장하고 저장한 학생 수를 반환합니다.
+     * scores[i]는 enrollments[i]의 {중간고사, 기말고사, 과제}이며, 성적이 있으면 수정하고 없으면 추가합니다.
+     * 모든 수강 정보를 먼저 확인하므로 하나라도 잘못되면 아무것도 바꾸지 않고,
+     * 변경은 하나의 묶음으로 처리하므로 성적 목록의 화면 갱신은 한 번만 일어납니다.
+     *
+     * @throws IllegalArgumentException 수강 정보가 저장소에 없거나 점수 개수가 맞지 않는 경우
+     */
+    public int saveGrades(String lectureName, List<Student> enrollments, int[][] scores) {
+        if (enrollments.size() != scores.length) {
+            throw new IllegalArgumentException("학생 수와 점수 수가 다릅니다.");
+        }
+        for (int i = 0; i < scores.length; i++) {
+            Student student = enrollments.get(i);
+            if (findEnrollment(lectureName, student.getName()) != student || scores[i].length != 3) {
+                throw new IllegalArgumentException("수강 정보를 찾을 수 없습니다: " + student.getName());
+            }
+        }
+
+        beginBatch();
+        try {
+            for (int i = 0; i < scores.length; i++) {
+                Student student = enrollments.get(i);
+                int[] score = scores[i];
+                Grade grade = findGrade(lectureName, student.getName());
+                if (grade != null) {
+                    updateGrade(grade, score[0], score[1], score[2]);
+                } else {
+                    addGrade(grades.size() + 1, lectureName, student.getYear(), student.getName(),
+                             score[0], score[1], score[2]);
+                }
+            }
+        } finally {
+            endBatch();
+        }
+        return scores.length;
+    }
+
+    /*
+     * (강의명, 학생 이름)에 해당하는 성적을 찾습니다.
+     */
+    public Grade findGrade(String lectureName, String studentName) {
+        int row = grades.find(lectureName, studentName);
+        return row < 0 ? null : grades.get(row);
+    }
+
+    /*
+     * (강의명, 기준년도)에 해당하는 성적의 행 번호 배열을 반환합니다.
+     */
+    public int[] getGradeRowsByLectureYear(String lectureName, String year) {
+        return grades.rowsOf(lectureName, year);
+    }
+
+    /*
+     * 성적 조회 화면의 필터와 같은 기준으로 성적 행 번호를 고릅니다. null은 "전체"를 뜻합니다.
+     * 강의를 지정하면 그 강의의 기준년도 분할을, 기준년도만 지정하면 기준년도 열을 사용합니다.
+     * 둘 다 null이면 null(전체 행)을 반환합니다.
+     */
+    public int[] findGradeRows(String lectureName, String year) {
+        return DataSnapshot.selectGradeRows(grades, lectureName == null ? null : lectureByName.get(lectureName), lectureName, year);
+    }
+
+    /*
+     * 성적 조회 화면의 필터와 같은 기준으로 (강의, 기준년도)별 누적 통계를 합쳐 반환합니다.
+     */
+    public GradeStatistics getGradeStatistics(String lectureName, String year) {
+        return DataSnapshot.selectStatistics(grades, lectureName == null ? null : lectureByName.get(lectureName), lectureName, year);
+    }
+
+    /*
+     * 성적의 열 저장소를 반환합니다. 통계 계산 등에서 열을 직접 훑을 때 사용합니다.
+     * 수정은 반드시 이 클래스의 메소드를 통해야 합니다.
+     */
+    public GradeStore getGradeStore() {
+        return grades;
+    }
+
+    // ===== 공통 =====
+
+    public List<Lecture> getLectures() { return Collections.unmodifiableList(lectures); }
+    public List<Student> getStudents() { return Collections.unmodifiableList(students); }
+    public List<Grade> getGrades() { return grades.asList(); }
+
+    private static <T> void removeFromIndex(Map<String, List<T>> index, String key, T value) {
+        List<T> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.removeIf(item -> item == value);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static <T> List<T> unmodifiable(List<T> list) {
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+}
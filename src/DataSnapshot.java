@@ -0,0 +1,124 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 어느 한 시점의 강의, 학생, 성적을 담은 읽기 전용 스냅샷입니다.
+ * DataRepository.snapshot()이 수정하는 스레드에서 만들며, 이후의 변경은 반영되지 않으므로
+ * 백그라운드 작업(자동 저장, 내보내기, 분석, HTTP 조회)이 잠금 없이 일관된 데이터를 읽을 수 있습니다.
+ *
+ * 학생 목록과 성적 열은 저장소와 조각을 공유하므로(copy-on-write) 만드는 비용이 작습니다.
+ * 학생 조회 인덱스는 처음 필요할 때 한 번 만듭니다.
+ */
+class DataSnapshot {
+    private final List<Lecture> lectures;
+    private final List<Student> students;
+    private final GradeStore grades;
+    private final Map<String, Lecture> lectureByName = new HashMap<>();
+    private volatile StudentIndex studentIndex; // 처음 조회할 때 생성
+
+    DataSnapshot(List<Lecture> lectures, List<Student> students, GradeStore grades) {
+        this.lectures = Collections.unmodifiableList(lectures);
+        this.students = Collections.unmodifiableList(students);
+        this.grades = grades;
+        for (Lecture lecture : lectures) {
+            lectureByName.put(lecture.getName(), lecture);
+        }
+    }
+
+    /*
+     * 학생 이름, 강의명, 학번별 학생 목록입니다.
+     */
+    private static class StudentIndex {
+        final Map<String, List<Student>> byLecture = new HashMap<>();
+        final Map<String, List<Student>> byName = new HashMap<>();
+        final Map<String, List<Student>> byStudentId = new HashMap<>();
+
+        StudentIndex(List<Student> students) {
+            for (Student student : students) {
+                byLecture.computeIfAbsent(student.getLectureName(), k -> new ArrayList<>()).add(student);
+                byName.computeIfAbsent(student.getName(), k -> new ArrayList<>()).add(student);
+                byStudentId.computeIfAbsent(student.getStudentId(), k -> new ArrayList<>()).add(student);
+            }
+        }
+    }
+
+    private StudentIndex studentIndex() {
+        StudentIndex index = studentIndex;
+        if (index == null) {
+            index = new StudentIndex(students);
+            studentIndex = index;
+        }
+        return index;
+    }
+
+    public List<Lecture> getLectures() { return lectures; }
+    public List<Student> getStudents() { return students; }
+    public GradeStore getGradeStore() { return grades; }
+
+    public Lecture findLecture(String lectureName) {
+        return lectureByName.get(lectureName);
+    }
+
+    public List<Lecture> getLecturesByYear(String year) {
+        List<Lecture> result = new ArrayList<>();
+        for (Lecture lecture : lectures) {
+            if (lecture.getYear().equals(year)) {
+                result.add(lecture);
+            }
+        }
+        return result;
+    }
+
+    public List<Student> getStudentsByLecture(String lectureName) {
+        return studentIndex().byLecture.getOrDefault(lectureName, Collections.emptyList());
+    }
+
+    public List<Student> findStudentsByName(String name) {
+        return studentIndex().byName.getOrDefault(name, Collections.emptyList());
+    }
+
+    public List<Student> findStudentsByStudentId(String studentId) {
+        return studentIndex().byStudentId.getOrDefault(studentId, Collections.emptyList());
+    }
+
+    /*
+     * 성적 조회 화면의 필터와 같은 기준으로 성적 행 번호를 고릅니다. (DataRepository.findGradeRows 참고)
+     */
+    public int[] findGradeRows(String lectureName, String year) {
+        return selectGradeRows(grades, lectureName == null ? null : findLecture(lectureName), lectureName, year);
+    }
+
+    /*
+     * 성적 조회 화면의 필터와 같은 기준으로 성적 통계를 계산합니다.
+     */
+    public GradeStatistics statistics(String lectureName, String year) {
+        return selectStatistics(grades, lectureName == null ? null : findLecture(lectureName), lectureName, year);
+    }
+
+    /*
+     * 강의를 지정하면 그 강의의 기준년도 분할을, 기준년도만 지정하면 기준년도 열을 사용합니다.
+     * 둘 다 null이면 null(전체 행)을 반환합니다. lecture는 lectureName으로 찾은 강의입니다.
+     */
+    static int[] selectGradeRows(GradeStore grades, Lecture lecture, String lectureName, String year) {
+        if (lectureName == null) {
+            return year == null ? null : grades.rowsOfYear(year);
+        }
+        if (lecture == null || (year != null && !lecture.getYear().equals(year))) {
+            return new int[0];
+        }
+        return grades.rowsOf(lectureName, lecture.getYear());
+    }
+
+    static GradeStatistics selectStatistics(GradeStore grades, Lecture lecture, String lectureName, String year) {
+        if (lectureName == null) {
+            return grades.statistics(null, year);
+        }
+        if (lecture == null || (year != null && !lecture.getYear().equals(year))) {
+            return new GradeStatistics();
+        }
+        return grades.statistics(lectureName, lecture.getYear());
+    }
+}
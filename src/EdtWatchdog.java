@@ -0,0 +1,233 @@
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import javax.swing.AbstractButton;
+
+/*
+ * 이벤트 디스패치 스레드(EDT)가 멈추는지 감시하는 클래스입니다.
+ *
+ * 감시 스레드가 HEARTBEAT_INTERVAL마다 빈 작업(heartbeat)을 이벤트 큐에 넣고, 실행될 때까지 걸린 시간을 잽니다.
+ * threshold(ms)가 지나도 실행되지 않으면 EDT가 멈춘 것으로 보고, 그 순간의 EDT 스택과
+ * 처리 중이던 이벤트를 로그 파일에 기록합니다. 멈춤이 풀리면 전체 멈춘 시간을 한 줄 더 기록합니다.
+ * 모달 대화상자가 열려 있는 동안에도 이벤트 큐는 계속 처리되므로 대화상자를 멈춤으로 기록하지는 않습니다.
+ *
+ * 처리 중인 이벤트는 이벤트 큐를 TrackingEventQueue로 바꿔 알아냅니다.
+ * 로그는 MAX_LOG_SIZE를 넘으면 ".1"을 붙인 파일로 옮기고 새로 시작합니다. (최근 두 파일만 남음)
+ * 로그 쓰기는 감시 스레드에서 하므로 EDT를 더 멈추게 하지 않습니다.
+ *
+ * 응답 시간은 측정 기록(Metrics)의 edt.latency, 멈춘 시간은 edt.stall에도 남습니다.
+ */
+class EdtWatchdog {
+    static final int DEFAULT_THRESHOLD = 500; // 멈춤으로 기록하는 응답 시간 (ms)
+    static final long MAX_LOG_SIZE = 1 << 20; // 로그 파일 최대 크기 (1MB)
+    private static final int HEARTBEAT_INTERVAL = 250; // heartbeat 주기 (ms)
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    private final Path logFile;
+    private final long thresholdNanos;
+    private final TrackingEventQueue queue = new TrackingEventQueue();
+    private IntConsumer latencyListener; // EDT에서 응답 시간(ms)을 받음
+
+    // 감시 스레드와 EDT가 함께 쓰므로 this로 동기화합니다.
+    private boolean heartbeatPending; // 실행을 기다리는 heartbeat가 있는지 여부
+    private long heartbeatPosted;   // 기다리는 heartbeat를 넣은 시각
+    private long lastHeartbeat;     // 마지막 heartbeat가 실행된 시각
+    private boolean stalled;        // 기다리는 heartbeat를 멈춤으로 기록했는지 여부
+    private long recoveredStall;    // 풀린 멈춤의 전체 시간 (감시 스레드가 기록할 때까지, 없으면 0)
+
+    public EdtWatchdog(Path logFile, int threshold) {
+        this.logFile = logFile;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(threshold);
+    }
+
+    /*
+     * heartbeat가 실행될 때마다 응답 시간(ms)을 EDT에서 받을 리스너를 설정합니다. (상태 표시줄 등)
+     */
+    public void setLatencyListener(IntConsumer latencyListener) {
+        this.latencyListener = latencyListener;
+    }
+
+    public int getThreshold() {
+        return (int) TimeUnit.NANOSECONDS.toMillis(thresholdNanos);
+    }
+
+    /*
+     * 이벤트 큐를 바꾸고 감시 스레드를 시작합니다.
+     */
+    public void start() {
+        synchronized (this) {
+            lastHeartbeat = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL);
+        }
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(queue);
+        Thread thread = new Thread(this::watch, "EDT watchdog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ===== 감시 =====
+
+    private void watch() {
+        long checkInterval = Math.max(10, Math.min(HEARTBEAT_INTERVAL, getThreshold() / 4));
+        while (true) {
+            try {
+                Thread.sleep(checkInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            boolean post = false;
+            long stall = 0; // 새로 멈춤으로 판단한 경우 기다린 시간
+            long recovered;
+            synchronized (this) {
+                if (!heartbeatPending) {
+                    if (now - lastHeartbeat >= TimeUnit.MILLISECONDS.toNanos(HEARTBEAT_INTERVAL)) {
+                        heartbeatPending = true;
+                        heartbeatPosted = now;
+                        post = true;
+                    }
+                } else if (!stalled && now - heartbeatPosted >= thresholdNanos) {
+                    stalled = true;
+                    stall = now - heartbeatPosted;
+                }
+                recovered = recoveredStall;
+                recoveredStall = 0;
+            }
+
+            if (post) {
+                EventQueue.invokeLater(this::heartbeat);
+            }
+            if (recovered > 0) {
+                log(now() + " EDT 멈춤 해제: " + TimeUnit.NANOSECONDS.toMillis(recovered) + " ms\n");
+            }
+            if (stall > 0) {
+                log(describeStall(stall)); // 스택은 잠금 밖에서 읽어 heartbeat를 막지 않습니다.
+            }
+        }
+    }
+
+    /*
+     * EDT에서 실행되는 heartbeat입니다. 응답 시간을 기록하고 리스너에 알립니다.
+     */
+    private void heartbeat() {
+        long now = System.nanoTime();
+        long latency;
+        boolean recovered;
+        synchronized (this) {
+            latency = now - heartbeatPosted;
+            heartbeatPending = false;
+            lastHeartbeat = now;
+            recovered = stalled;
+            stalled = false;
+            if (recovered) {
+                recoveredStall = latency;
+            }
+        }
+
+        Metrics.timer("edt.latency").record(latency, 0, 0, false);
+        if (recovered) {
+            Metrics.timer("edt.stall").record(latency, 0, 0, false);
+        }
+        if (latencyListener != null) {
+            latencyListener.accept((int) TimeUnit.NANOSECONDS.toMillis(latency));
+        }
+    }
+
+    /*
+     * 멈춘 EDT의 스택과 처리 중인 이벤트를 로그 항목으로 만듭니다.
+     */
+    private String describeStall(long waited) {
+        StringBuilder entry = new StringBuilder();
+        entry.append(now()).append(" EDT 멈춤: ").append(TimeUnit.NANOSECONDS.toMillis(waited)).append(" ms 이상 응답 없음\n");
+
+        AWTEvent event = queue.current;
+        if (event != null) {
+            long running = System.nanoTime() - queue.currentStart;
+            entry.append("  이벤트: ").append(describe(event))
+                 .append(" (처리 시작 후 ").append(TimeUnit.NANOSECONDS.toMillis(running)).append(" ms)\n");
+        } else {
+            entry.append("  이벤트: 알 수 없음\n");
+        }
+
+        Thread edt = queue.dispatchThread;
+        if (edt != null) {
+            entry.append("  스레드: ").append(edt.getName()).append(" (").append(edt.getState()).append(")\n");
+            for (StackTraceElement element : edt.getStackTrace()) {
+                entry.append("    at ").append(element).append('\n');
+            }
+        }
+        return entry.toString();
+    }
+
+    /*
+     * 이벤트의 종류, 내용과 발생한 컴포넌트(버튼이면 글자)를 한 줄로 나타냅니다.
+     */
+    static String describe(AWTEvent event) {
+        StringBuilder text = new StringBuilder(event.getClass().getSimpleName())
+                .append('[').append(event.paramString()).append(']');
+        Object source = event.getSource();
+        if (source instanceof AbstractButton) {
+            text.append(" \"").append(((AbstractButton) source).getText()).append('"');
+        }
+        if (source != null) {
+            text.append(" 대상 ").append(source.getClass().getName());
+        }
+        return text.toString();
+    }
+
+    private static String now() {
+        return LocalDateTime.now().format(TIME_FORMAT);
+    }
+
+    /*
+     * 로그 파일에 덧붙입니다. 파일이 MAX_LOG_SIZE를 넘었으면 먼저 ".1" 파일로 옮깁니다.
+     * 로그를 쓸 수 없어도 프로그램에는 영향을 주지 않도록 오류는 표준 오류로만 알립니다.
+     */
+    private void log(String entry) {
+        try {
+            if (Files.exists(logFile) && Files.size(logFile) > MAX_LOG_SIZE) {
+                Files.move(logFile, logFile.resolveSibling(logFile.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.write(logFile, entry.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("EDT 감시 로그 기록 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    /*
+     * 처리 중인 이벤트와 처리하는 스레드를 기록하는 이벤트 큐입니다.
+     * 모달 대화상자처럼 이벤트 처리 중에 다른 이벤트를 처리하는 경우에는 안쪽 이벤트를 기록하고,
+     * 안쪽 이벤트가 끝나면 바깥 이벤트로 되돌립니다.
+     */
+    private static class TrackingEventQueue extends EventQueue {
+        volatile AWTEvent current;
+        volatile long currentStart;
+        volatile Thread dispatchThread;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            AWTEvent outer = current;
+            long outerStart = currentStart;
+            dispatchThread = Thread.currentThread();
+            currentStart = System.nanoTime();
+            current = event;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                current = outer;
+                currentStart = outerStart;
+            }
+        }
+    }
+}
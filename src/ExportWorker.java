@@ -0,0 +1,72 @@
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+
+/*
+ * CSV 내보내기를 백그라운드 스레드에서 실행하는 클래스입니다.
+ * 진행률은 ProgressMonitor로 표시하고, 취소 버튼을 누르면 작업에 취소를 알립니다.
+ * 작업은 이벤트 디스패치 스레드에서 만든 저장소 복사본만 읽어야 합니다.
+ */
+class ExportWorker extends SwingWorker<Integer, Void> {
+    /*
+     * 백그라운드에서 실행할 내보내기 작업입니다. 저장한 파일 수를 반환합니다.
+     */
+    interface Task {
+        int run(CsvExporter.Progress progress, BooleanSupplier cancelled) throws IOException;
+    }
+
+    private final Component parent;
+    private final String title;
+    private final Task task;
+    private final ProgressMonitor monitor;
+    private final Timer cancelTimer; // 취소 버튼 확인
+
+    public ExportWorker(Component parent, String title, Task task) {
+        this.parent = parent;
+        this.title = title;
+        this.task = task;
+        this.monitor = new ProgressMonitor(parent, title, null, 0, 100);
+        monitor.setMillisToDecideToPopup(200);
+        addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                monitor.setProgress((Integer) e.getNewValue());
+            }
+        });
+        cancelTimer = new Timer(200, e -> {
+            if (monitor.isCanceled()) {
+                cancel(false);
+            }
+        });
+        cancelTimer.start();
+    }
+
+    @Override
+    protected Integer doInBackground() throws IOException {
+        return task.run((done, total) -> setProgress((int) Math.min(99, total == 0 ? 0 : done * 100 / total)),
+                        this::isCancelled);
+    }
+
+    @Override
+    protected void done() {
+        cancelTimer.stop();
+        monitor.close();
+        try {
+            int files = get();
+            JOptionPane.showMessageDialog(parent, title + "가 완료되었습니다. (파일 " + files + "개)", "성공", JOptionPane.INFORMATION_MESSAGE);
+        } catch (CancellationException e) {
+            JOptionPane.showMessageDialog(parent, title + "가 취소되었습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedIOException) {
+                JOptionPane.showMessageDialog(parent, title + "가 취소되었습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(parent, title + " 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * 성적 클래스입니다.
+ * 성적 데이터는 GradeStore의 열에 저장되며, 이 클래스는 그 중 한 행을 가리키는 뷰입니다.
+ * 성적이 삭제되면 행 번호가 바뀔 수 있으므로 오래 보관하지 말고 필요할 때마다 다시 조회합니다.
+ */
+class Grade {
+    private final GradeStore store;
+    private final int row;
+
+    Grade(GradeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    public int getRow() { return row; }
+    public int getId() { return store.getId(row); }
+    public String getLectureName() { return store.getLectureName(row); }
+    public String getYear() { return store.getYear(row); }
+    public String getStudentName() { return store.getStudentName(row); }
+    public int getMidterm() { return store.getMidterm(row); }
+    public int getFinalExam() { return store.getFinalExam(row); }
+    public int getAssignment() { return store.getAssignment(row); }
+    public int getTotal() { return store.getTotal(row); }
+    public double getAverage() { return store.getAverage(row); }
+}
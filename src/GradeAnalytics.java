@@ -0,0 +1,293 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * 성적 분석(백분위, 중앙값, 석차, 학점 기준점)을 계산하는 클래스입니다.
+ * 성적을 (강의, 기준년도)별로 나눈 뒤 ForkJoinPool에서 분할마다 병렬로 정렬하여 계산합니다.
+ * 전체 석차는 전체 총점을 병렬 정렬(Arrays.parallelSort)하여 구합니다.
+ *
+ * 모든 값은 총점 기준으로 계산하고, 점수는 평균(총점 / 3)으로 반환합니다.
+ * 이벤트 디스패치 스레드의 저장소가 아닌 GradeStore.snapshot()으로 만든 스냅샷을 전달해야 합니다.
+ */
+class GradeAnalytics {
+    static final double[] PERCENTILES = {0.10, 0.25, 0.50, 0.75, 0.90};
+    static final String[] LETTERS = {"A", "B", "C"};
+    static final double[] LETTER_RATIOS = {0.30, 0.70, 0.90}; // 학점별 누적 비율 (나머지는 D)
+
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14; // 이보다 작은 분할 묶음은 한 작업에서 처리
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16; // 이보다 큰 분할은 병렬 정렬
+
+    private GradeAnalytics() {}
+
+    /*
+     * (강의, 기준년도) 하나의 분석 결과입니다.
+     */
+    static class Result {
+        final String lectureName;
+        final String year;
+        final int count;
+        final double[] percentiles = new double[PERCENTILES.length]; // PERCENTILES 순서
+        final double median;
+        final double[] cutoffs = new double[LETTERS.length]; // 학점별 최저 평균 점수
+        final int[] rows;  // 저장소의 행 번호 (석차 순서)
+        final int[] ranks; // rows와 같은 순서의 강의 내 석차 (동점은 같은 석차)
+
+        Result(String lectureName, String year, int[] rows, int[] ranks, int[] sortedTotals) {
+            this.lectureName = lectureName;
+            this.year = year;
+            this.count = rows.length;
+            this.rows = rows;
+            this.ranks = ranks;
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles[i] = percentile(sortedTotals, PERCENTILES[i]);
+            }
+            int n = sortedTotals.length;
+            this.median = n == 0 ? 0 : (n % 2 == 1 ? sortedTotals[n / 2]
+                    : (sortedTotals[n / 2 - 1] + sortedTotals[n / 2]) / 2.0) / 3.0;
+            for (int i = 0; i < LETTERS.length; i++) {
+                int position = Math.max(1, (int) Math.ceil(LETTER_RATIOS[i] * n));
+                cutoffs[i] = n == 0 ? 0 : sortedTotals[n - position] / 3.0;
+            }
+        }
+    }
+
+    /*
+     * 오름차순으로 정렬된 총점에서 백분위 값(최근접 순위 방식)을 평균 점수로 반환합니다.
+     */
+    static double percentile(int[] sortedTotals, double p) {
+        if (sortedTotals.length == 0) {
+            return 0;
+        }
+        int index = Math.max(0, (int) Math.ceil(p * sortedTotals.length) - 1);
+        return sortedTotals[index] / 3.0;
+    }
+
+    /*
+     * 모든 (강의, 기준년도)의 분석 결과를 계산합니다.
+     * 결과는 성적에 처음 나온 순서대로 반환합니다.
+     */
+    public static List<Result> analyze(GradeStore grades) {
+        // 1. 분할 번호를 매기고 분할별 행 수를 셉니다.
+        int size = grades.size();
+        LongIntHashMap partitionIds = new LongIntHashMap();
+        IntList partitionKeys = new IntList(); // 분할마다 (강의 번호, 기준년도 번호)
+        int[] partitionOfRow = new int[size];
+        IntList counts = new IntList();
+        for (int row = 0; row < size; row++) {
+            long key = ((long) grades.getLectureCode(row) << 32) | grades.getYearCode(row);
+            int partition = partitionIds.get(key);
+            if (partition == LongIntHashMap.MISSING) {
+                partition = counts.size();
+                partitionIds.put(key, partition);
+                partitionKeys.add(grades.getLectureCode(row));
+                partitionKeys.add(grades.getYearCode(row));
+                counts.add(0);
+            }
+            partitionOfRow[row] = partition;
+            counts.set(partition, counts.get(partition) + 1);
+        }
+
+        // 2. 분할별 행 번호를 한 배열에 연속으로 모읍니다. (계수 정렬)
+        int partitionCount = counts.size();
+        int[] offsets = new int[partitionCount + 1];
+        for (int p = 0; p < partitionCount; p++) {
+            offsets[p + 1] = offsets[p] + counts.get(p);
+        }
+        int[] rows = new int[size];
+        int[] next = Arrays.copyOf(offsets, partitionCount);
+        for (int row = 0; row < size; row++) {
+            rows[next[partitionOfRow[row]]++] = row;
+        }
+
+        // 3. 분할마다 병렬로 정렬하고 결과를 계산합니다.
+        Result[] results = new Result[partitionCount];
+        ForkJoinPool.commonPool().invoke(new PartitionTask(grades, rows, offsets, partitionKeys, results, 0, partitionCount));
+        return Arrays.asList(results);
+    }
+
+    /*
+     * 분할 범위를 나누어 병렬로 처리하는 작업입니다.
+     * 범위에 속한 행 수가 충분히 작거나 분할이 하나뿐이면 직접 계산합니다.
+     */
+    private static class PartitionTask extends RecursiveAction {
+        private final GradeStore grades;
+        private final int[] rows;
+        private final int[] offsets;
+        private final IntList partitionKeys;
+        private final Result[] results;
+        private final int from, to;
+
+        PartitionTask(GradeStore grades, int[] rows, int[] offsets, IntList partitionKeys,
+                      Result[] results, int from, int to) {
+            this.grades = grades;
+            this.rows = rows;
+            this.offsets = offsets;
+            this.partitionKeys = partitionKeys;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && offsets[to] - offsets[from] > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(grades, rows, offsets, partitionKeys, results, from, middle),
+                          new PartitionTask(grades, rows, offsets, partitionKeys, results, middle, to));
+                return;
+            }
+            for (int p = from; p < to; p++) {
+                results[p] = analyzePartition(p);
+            }
+        }
+
+        private Result analyzePartition(int p) {
+            int start = offsets[p];
+            int n = offsets[p + 1] - start;
+            long[] packed = new long[n];
+            for (int i = 0; i < n; i++) {
+                int row = rows[start + i];
+                packed[i] = pack(grades.getTotal(row), row);
+            }
+            if (n > PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(packed);
+            } else {
+                Arrays.sort(packed);
+            }
+
+            int[] sortedTotals = new int[n];
+            for (int i = 0; i < n; i++) {
+                sortedTotals[i] = totalOf(packed[i]);
+            }
+            int[] rankedRows = new int[n];
+            int[] ranks = new int[n];
+            rank(packed, rankedRows, ranks);
+            return new Result(grades.getSymbols().symbol(partitionKeys.get(2 * p)),
+                              grades.getSymbols().symbol(partitionKeys.get(2 * p + 1)),
+                              rankedRows, ranks, sortedTotals);
+        }
+    }
+
+    /*
+     * 전체 성적의 석차를 행 번호 순서로 반환합니다. (동점은 같은 석차)
+     */
+    public static int[] rankAll(GradeStore grades) {
+        int size = grades.size();
+        long[] packed = new long[size];
+        Arrays.parallelSetAll(packed, row -> pack(grades.getTotal(row), row));
+        Arrays.parallelSort(packed);
+        int[] rankedRows = new int[size];
+        int[] ranks = new int[size];
+        rank(packed, rankedRows, ranks);
+        int[] rankByRow = new int[size];
+        for (int i = 0; i < size; i++) {
+            rankByRow[rankedRows[i]] = ranks[i];
+        }
+        return rankByRow;
+    }
+
+    /*
+     * 총점과 행 번호를 하나의 long으로 묶습니다. 정렬하면 총점 오름차순이 됩니다.
+     */
+    private static long pack(int total, int row) {
+        return ((long) total << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private static int totalOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /*
+     * 총점 오름차순으로 정렬된 packed를 뒤에서부터 읽어 석차 순서의 행 번호와 석차를 채웁니다.
+     */
+    private static void rank(long[] packed, int[] rankedRows, int[] ranks) {
+        int n = packed.length;
+        for (int i = 0; i < n; i++) {
+            long value = packed[n - 1 - i];
+            rankedRows[i] = (int) value;
+            ranks[i] = (i > 0 && totalOf(value) == totalOf(packed[n - i])) ? ranks[i - 1] : i + 1;
+        }
+    }
+
+    // ===== 내보내기 =====
+
+    /*
+     * 분석 결과 요약(강의별 백분위, 중앙값, 학점 기준점)을 CSV 파일로 저장합니다.
+     * 강의명처럼 쉼표가 들어갈 수 있는 글자 필드는 CsvExporter.escape()로 감쌉니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static void writeSummary(Path path, List<Result> results) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            StringBuilder header = new StringBuilder("강의명,기준년도,인원");
+            for (double p : PERCENTILES) {
+                header.append(",P").append(Math.round(p * 100));
+            }
+            header.append(",중앙값");
+            for (String letter : LETTERS) {
+                header.append(',').append(letter).append(" 기준");
+            }
+            writer.write(header.append('\n').toString());
+
+            for (Result result : results) {
+                StringBuilder line = new StringBuilder();
+                line.append(CsvExporter.escape(result.lectureName)).append(',').append(CsvExporter.escape(result.year)).append(',').append(result.count);
+                for (double value : result.percentiles) {
+                    line.append(',').append(format(value));
+                }
+                line.append(',').append(format(result.median));
+                for (double value : result.cutoffs) {
+                    line.append(',').append(format(value));
+                }
+                writer.write(line.append('\n').toString());
+            }
+        }
+    }
+
+    /*
+     * 성적별 강의 내 석차와 전체 석차를 CSV 파일로 저장합니다.
+     * rankByRow는 rankAll()의 결과입니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static void writeRanks(Path path, GradeStore grades, List<Result> results, int[] rankByRow) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("ID,강의명,기준년도,학생명,총점,평균,강의 석차,전체 석차\n");
+            for (Result result : results) {
+                for (int i = 0; i < result.count; i++) {
+                    int row = result.rows[i];
+                    writer.write(grades.getId(row) + "," + CsvExporter.escape(grades.getLectureName(row)) + "," +
+                                 CsvExporter.escape(grades.getYear(row)) + "," + CsvExporter.escape(grades.getStudentName(row)) + "," +
+                                 grades.getTotal(row) + "," + grades.getAverage(row) + "," +
+                                 result.ranks[i] + "," + rankByRow[row] + "\n");
+                }
+            }
+        }
+    }
+
+    static String format(double value) {
+        return String.valueOf(Math.round(value * 100) / 100.0);
+    }
+
+    /*
+     * 결과 목록에서 기준년도와 강의명이 맞는 결과만 골라 반환합니다. null은 전체를 뜻합니다.
+     */
+    public static List<Result> filter(List<Result> results, String lectureName, String year) {
+        List<Result> filtered = new ArrayList<>();
+        for (Result result : results) {
+            if ((lectureName == null || result.lectureName.equals(lectureName))
+                    && (year == null || result.year.equals(year))) {
+                filtered.add(result);
+            }
+        }
+        return filtered;
+    }
+}
@@ -0,0 +1,494 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * 강의, 학생, 성적을 JSON으로 조회하고 성적을 등록하는 내장 HTTP 서버입니다. (localhost 전용)
+ * JDK의 com.sun.net.httpserver를 사용하며, 요청마다 가상 스레드(JDK 21 이상)에서 처리합니다.
+ * 가상 스레드가 없는 JDK에서는 고정 크기 스레드 풀을 사용합니다.
+ *
+ * 조회는 저장소가 마지막으로 공개한 스냅샷(DataRepository.latestSnapshot())을 잠금 없이 읽어 응답을 스트림으로 씁니다.
+ * 조회가 많거나 느린 클라이언트가 있어도 화면의 변경을 막지 않습니다.
+ * 등록은 writer(화면에서는 이벤트 디스패치 스레드)에서 성적 등록 화면과 같은 방식으로 처리하고,
+ * 새 스냅샷을 공개하므로 등록 직후의 조회에 반영됩니다.
+ *
+ * GET  /api/lectures[?year=]
+ * GET  /api/students[?lecture=|name=|studentId=]
+ * GET  /api/grades[?lecture=&year=&student=&offset=&limit=]
+ * GET  /api/statistics[?lecture=&year=]
+ * POST /api/grades  lecture, student, midterm, finalExam, assignment (폼 또는 쿼리 문자열)
+ * GET  /api/metrics  데이터 작업별 측정 기록 (Metrics)
+ */
+class GradeApiServer {
+    static final int DEFAULT_PORT = 8080;
+
+    private static final int BACKLOG = 1024;
+    private static final int WRITE_TIMEOUT_SECONDS = 10; // 등록 요청이 writer를 기다리는 최대 시간
+
+    private final DataRepository repository;
+    private final Executor writer;
+    private HttpServer server;
+    private ExecutorService executor;
+    private volatile boolean readOnly; // 성적 등록을 받지 않는 동안 (파일 로드 중 등)
+
+    /*
+     * writer는 저장소를 변경하는 스레드입니다. 화면에서는 SwingUtilities::invokeLater를 전달합니다.
+     */
+    public GradeApiServer(DataRepository repository, Executor writer) {
+        this.repository = repository;
+        this.writer = writer;
+    }
+
+    /*
+     * localhost의 port에서 서버를 시작합니다.
+     *
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        server.createContext("/api/lectures", exchange -> handle(exchange, this::lectures));
+        server.createContext("/api/students", exchange -> handle(exchange, this::students));
+        server.createContext("/api/grades", exchange -> handle(exchange, this::grades));
+        server.createContext("/api/statistics", exchange -> handle(exchange, this::statistics));
+        server.createContext("/api/metrics", exchange -> handle(exchange, this::metrics));
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /*
+     * 성적 등록을 막거나 다시 받습니다. 막힌 동안의 등록 요청은 503으로 응답합니다.
+     * writer에서 호출하면 이미 writer에 전달된 등록도 함께 막힙니다. (writer에서 다시 확인)
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /*
+     * 요청마다 가상 스레드를 만드는 실행기를 반환합니다.
+     * JDK 21 미만에서는 고정 크기 스레드 풀을 반환합니다.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+        }
+    }
+
+    // ===== 요청 처리 =====
+
+    /*
+     * 요청 하나를 처리하는 인터페이스입니다. 응답은 직접 보냅니다.
+     */
+    private interface Handler {
+        void handle(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException;
+    }
+
+    /*
+     * 오류 응답으로 보낼 예외입니다.
+     */
+    private static class ApiException extends Exception {
+        final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) {
+        try (exchange) {
+            try {
+                Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+                if ("POST".equals(exchange.getRequestMethod())) {
+                    parameters.putAll(parseQuery(readBody(exchange.getRequestBody())));
+                }
+                handler.handle(exchange, parameters);
+            } catch (ApiException e) {
+                sendError(exchange, e.status, e.getMessage());
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, String.valueOf(e.getMessage()));
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊은 경우 등: 응답을 보낼 수 없으므로 무시합니다.
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws ApiException {
+        if (!method.equals(exchange.getRequestMethod())) {
+            throw new ApiException(405, "지원하지 않는 메소드입니다: " + exchange.getRequestMethod());
+        }
+    }
+
+    private void lectures(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        requireMethod(exchange, "GET");
+        String year = parameters.get("year");
+        DataSnapshot snapshot = repository.latestSnapshot();
+        List<Lecture> lectures = year == null ? snapshot.getLectures() : snapshot.getLecturesByYear(year);
+
+        try (Writer out = openJson(exchange, 200)) {
+            out.write('[');
+            for (int i = 0; i < lectures.size(); i++) {
+                Lecture lecture = lectures.get(i);
+                StringBuilder line = new StringBuilder(i == 0 ? "\n" : ",\n");
+                line.append("{\"id\":").append(lecture.getId());
+                appendField(line, "year", lecture.getYear());
+                appendField(line, "name", lecture.getName());
+                appendField(line, "time", lecture.getTime());
+                out.write(line.append('}').toString());
+            }
+            out.write("\n]\n");
+        }
+    }
+
+    private void students(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        requireMethod(exchange, "GET");
+        DataSnapshot snapshot = repository.latestSnapshot();
+        List<Student> students;
+        if (parameters.containsKey("lecture")) {
+            students = snapshot.getStudentsByLecture(parameters.get("lecture"));
+        } else if (parameters.containsKey("name")) {
+            students = snapshot.findStudentsByName(parameters.get("name"));
+        } else if (parameters.containsKey("studentId")) {
+            students = snapshot.findStudentsByStudentId(parameters.get("studentId"));
+        } else {
+            students = snapshot.getStudents();
+        }
+
+        try (Writer out = openJson(exchange, 200)) {
+            out.write('[');
+            for (int i = 0; i < students.size(); i++) {
+                Student student = students.get(i);
+                StringBuilder line = new StringBuilder(i == 0 ? "\n" : ",\n");
+                line.append("{\"id\":").append(student.getId());
+                appendField(line, "lecture", student.getLectureName());
+                appendField(line, "year", student.getYear());
+                appendField(line, "name", student.getName());
+                appendField(line, "studentId", student.getStudentId());
+                out.write(line.append('}').toString());
+            }
+            out.write("\n]\n");
+        }
+    }
+
+    private void grades(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        if ("POST".equals(exchange.getRequestMethod())) {
+            saveGrade(exchange, parameters);
+            return;
+        }
+        requireMethod(exchange, "GET");
+        String lectureName = parameters.get("lecture");
+        String year = parameters.get("year");
+        String studentName = parameters.get("student");
+        int offset = intParameter(parameters, "offset", 0);
+        int limit = intParameter(parameters, "limit", Integer.MAX_VALUE);
+
+        DataSnapshot snapshot = repository.latestSnapshot();
+        GradeStore grades = snapshot.getGradeStore();
+        int[] rows = studentName != null ? filter(grades, grades.rowsOfStudent(studentName), lectureName, year)
+                                         : snapshot.findGradeRows(lectureName, year);
+        rows = page(rows, grades.size(), offset, limit);
+
+        try (Writer out = openJson(exchange, 200)) {
+            out.write('[');
+            for (int i = 0; i < rows.length; i++) {
+                StringBuilder line = new StringBuilder(i == 0 ? "\n" : ",\n");
+                appendGrade(line, grades, rows[i]);
+                out.write(line.toString());
+            }
+            out.write("\n]\n");
+        }
+    }
+
+    /*
+     * 학생의 행 중 강의명과 기준년도가 맞는 행만 남깁니다. (null은 조건 없음)
+     */
+    private static int[] filter(GradeStore store, int[] rows, String lectureName, String year) {
+        IntList filtered = new IntList();
+        for (int row : rows) {
+            if ((lectureName == null || store.getLectureName(row).equals(lectureName))
+                    && (year == null || store.getYear(row).equals(year))) {
+                filtered.add(row);
+            }
+        }
+        return filtered.toArray();
+    }
+
+    /*
+     * 행 번호 배열(null은 전체 행)에서 offset부터 limit개를 잘라 반환합니다.
+     */
+    private static int[] page(int[] rows, int size, int offset, int limit) {
+        int count = rows == null ? size : rows.length;
+        int from = Math.min(offset, count);
+        int to = (int) Math.min(count, (long) from + limit);
+        int[] page = new int[to - from];
+        for (int i = from; i < to; i++) {
+            page[i - from] = rows == null ? i : rows[i];
+        }
+        return page;
+    }
+
+    private void statistics(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        requireMethod(exchange, "GET");
+        String lectureName = parameters.get("lecture");
+        String year = parameters.get("year");
+        GradeStatistics statistics = repository.latestSnapshot().statistics(lectureName, year);
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\"count\":").append(statistics.getCount())
+            .append(",\"mean\":").append(GradeAnalytics.format(statistics.getMean()))
+            .append(",\"standardDeviation\":").append(GradeAnalytics.format(statistics.getStandardDeviation()))
+            .append(",\"min\":").append(GradeAnalytics.format(statistics.getMin()))
+            .append(",\"max\":").append(GradeAnalytics.format(statistics.getMax()))
+            .append(",\"histogram\":[");
+        int[] histogram = statistics.getHistogram();
+        for (int i = 0; i < histogram.length; i++) {
+            json.append(i == 0 ? "" : ",").append(histogram[i]);
+        }
+        json.append("]}\n");
+        try (Writer out = openJson(exchange, 200)) {
+            out.write(json.toString());
+        }
+    }
+
+    /*
+     * 작업별 횟수, 실패 수, 걸린 시간(ms), 처리한 레코드 수와 바이트 수, 시간 분포를 반환합니다.
+     * histogram의 i번째 값은 2^(i-1)~2^i μs 구간의 횟수입니다. (0번은 1μs 미만)
+     */
+    private void metrics(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        requireMethod(exchange, "GET");
+        List<Metrics.Timer> timers = Metrics.timers();
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < timers.size(); i++) {
+            Metrics.Timer timer = timers.get(i);
+            json.append(i == 0 ? "\n{\"name\":" : ",\n{\"name\":");
+            appendString(json, timer.getName());
+            json.append(",\"count\":").append(timer.getCount())
+                .append(",\"errors\":").append(timer.getErrors())
+                .append(",\"meanMillis\":").append(Metrics.millis(timer.getMeanNanos()))
+                .append(",\"p50Millis\":").append(Metrics.millis(timer.percentileNanos(0.5)))
+                .append(",\"p99Millis\":").append(Metrics.millis(timer.percentileNanos(0.99)))
+                .append(",\"maxMillis\":").append(Metrics.millis(timer.getMaxNanos()))
+                .append(",\"records\":").append(timer.getRecords())
+                .append(",\"bytes\":").append(timer.getBytes())
+                .append(",\"histogram\":[");
+            long[] histogram = timer.getHistogram();
+            for (int j = 0; j < histogram.length; j++) {
+                json.append(j == 0 ? "" : ",").append(histogram[j]);
+            }
+            json.append("]}");
+        }
+        json.append("\n]\n");
+        try (Writer out = openJson(exchange, 200)) {
+            out.write(json.toString());
+        }
+    }
+
+    /*
+     * 성적 등록 화면(GradePanel.addGrade)과 같은 방식으로 성적을 저장합니다.
+     * 이미 성적이 있으면 점수를 수정하고, 없으면 수강 정보의 기준년도로 추가합니다.
+     */
+    private void saveGrade(HttpExchange exchange, Map<String, String> parameters) throws IOException, ApiException {
+        String lectureName = parameters.get("lecture");
+        String studentName = parameters.get("student");
+        if (lectureName == null || studentName == null) {
+            throw new ApiException(400, "강의와 학생을 지정해야 합니다.");
+        }
+        int midterm = score(parameters, "midterm");
+        int finalExam = score(parameters, "finalExam");
+        int assignment = score(parameters, "assignment");
+
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> {
+            if (readOnly) {
+                return "readOnly";
+            }
+            Grade grade = repository.findGrade(lectureName, studentName);
+            if (grade != null) {
+                repository.updateGrade(grade, midterm, finalExam, assignment);
+                repository.snapshot();
+                return "updated";
+            }
+            Student enrollment = repository.findEnrollment(lectureName, studentName);
+            if (enrollment == null) {
+                return null;
+            }
+            repository.addGrade(repository.getGrades().size() + 1, enrollment.getLectureName(), enrollment.getYear(),
+                                enrollment.getName(), midterm, finalExam, assignment);
+            repository.snapshot();
+            return "added";
+        }, writer);
+
+        String outcome;
+        try {
+            outcome = result.get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, "요청이 중단되었습니다.");
+        } catch (TimeoutException e) {
+            throw new ApiException(503, "저장소가 응답하지 않습니다.");
+        } catch (ExecutionException e) {
+            throw new ApiException(500, String.valueOf(e.getCause().getMessage()));
+        }
+        if (outcome == null) {
+            throw new ApiException(404, "학생 데이터를 찾을 수 없습니다.");
+        }
+        if (outcome.equals("readOnly")) {
+            throw new ApiException(503, "데이터를 불러오는 중입니다. 잠시 후 다시 시도하세요.");
+        }
+
+        StringBuilder json = new StringBuilder("{\"result\":\"").append(outcome).append("\"}\n");
+        try (Writer out = openJson(exchange, outcome.equals("added") ? 201 : 200)) {
+            out.write(json.toString());
+        }
+    }
+
+    /*
+     * 점수 매개변수를 읽습니다. 없으면 0이며, 0~100 범위의 정수여야 합니다.
+     */
+    private static int score(Map<String, String> parameters, String name) throws ApiException {
+        int value = intParameter(parameters, name, 0);
+        if (value > 100) {
+            throw new ApiException(400, name + "는 0~100 사이여야 합니다.");
+        }
+        return value;
+    }
+
+    private static int intParameter(Map<String, String> parameters, String name, int defaultValue) throws ApiException {
+        String text = parameters.get(name);
+        if (text == null || text.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(text.trim());
+            if (value < 0) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, name + "에 올바른 숫자를 입력해야 합니다: " + text);
+        }
+    }
+
+    // ===== JSON =====
+
+    /*
+     * JSON 응답을 시작하고 본문을 쓸 Writer를 반환합니다. 길이를 미리 정하지 않고 조각(chunked)으로 보냅니다.
+     */
+    private static Writer openJson(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 1 << 13);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        appendString(json.append("\"error\":"), message);
+        try (Writer out = openJson(exchange, status)) {
+            out.write(json.append("}\n").toString());
+        }
+    }
+
+    static void appendGrade(StringBuilder json, GradeStore grades, int row) {
+        json.append("{\"id\":").append(grades.getId(row));
+        appendField(json, "lecture", grades.getLectureName(row));
+        appendField(json, "year", grades.getYear(row));
+        appendField(json, "student", grades.getStudentName(row));
+        json.append(",\"midterm\":").append(grades.getMidterm(row))
+            .append(",\"finalExam\":").append(grades.getFinalExam(row))
+            .append(",\"assignment\":").append(grades.getAssignment(row))
+            .append(",\"total\":").append(grades.getTotal(row))
+            .append(",\"average\":").append(grades.getAverage(row))
+            .append('}');
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        appendString(json, value);
+    }
+
+    /*
+     * 문자열을 JSON 문자열로 이스케이프하여 덧붙입니다.
+     */
+    static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    // ===== 매개변수 =====
+
+    private static String readBody(InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    /*
+     * "a=1&b=2" 형식(URL 인코딩)의 문자열을 맵으로 바꿉니다. 빈 값은 무시합니다.
+     */
+    static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals <= 0 || equals == pair.length() - 1) {
+                continue;
+            }
+            parameters.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                           URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+}
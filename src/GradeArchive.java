@@ -0,0 +1,496 @@
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/*
+ * 지난 기준년도의 강의, 수강 정보, 성적을 보관하는 페이지 단위 파일(data.archive)입니다.
+ * 보관한 연도는 저장소(data.bin, data.journal)에서 지우므로 프로그램을 열 때 읽지 않고,
+ * 조회 화면이나 명령행에서 그 연도를 볼 때 필요한 페이지만 읽습니다.
+ * 읽은 페이지는 최근에 쓴 순서로 최대 cachePages개까지 메모리에 두고 가장 오래된 페이지부터 버리므로(LRU)
+ * 보관한 연도가 늘어나도 사용하는 메모리는 목차와 페이지 캐시 크기로 정해집니다.
+ *
+ * 파일 구조 (빅 엔디언, 모든 페이지는 PAGE_SIZE 바이트)
+ * - 0번 페이지: MAGIC(int), VERSION(int), PAGE_SIZE(int), 목차 시작 페이지(int), 목차 길이(int), 분할 수(int)
+ * - 분할 페이지: (기준년도, 강의) 하나가 한 분할이며, 수강 정보 페이지들 뒤에 성적 페이지들이 이어집니다.
+ *   페이지 머리: 종류(byte), 레코드 수(short). 레코드는 페이지 경계를 넘지 않습니다.
+ *   수강 정보: id(int), 이름, 학번 / 성적: id(int), 학생명, 중간, 기말, 과제(int)
+ *   문자열은 길이(short)와 UTF-8 바이트입니다. 강의명과 기준년도는 목차에만 기록합니다.
+ * - 목차: 분할마다 기준년도, 강의 id, 강의명, 시간, 수강 인원, 성적 수, 시작 페이지, 수강 정보 페이지 수, 성적 페이지 수
+ *
+ * 파일은 한 번 쓰면 바꾸지 않습니다. 연도를 보관할 때는 다른 연도의 분할 페이지를 그대로 복사하고
+ * 새 연도의 분할을 덧붙인 파일을 AtomicFileWriter로 만들어 교체합니다. (같은 연도가 있으면 새 내용으로 바꿈)
+ * 읽기는 여러 스레드에서 동시에 할 수 있습니다.
+ */
+class GradeArchive implements Closeable {
+    static final int MAGIC = 0x47524441; // "GRDA"
+    static final int VERSION = 1;
+    static final int PAGE_SIZE = 8192;
+    static final int DEFAULT_CACHE_PAGES = 256; // 기본 페이지 캐시 크기 (2MB)
+
+    private static final byte STUDENT_PAGE = 1;
+    private static final byte GRADE_PAGE = 2;
+    private static final int PAGE_HEADER = 3;
+
+    private final FileChannel channel; // 파일이 없으면 null
+    private final List<Partition> partitions;
+    private final Map<String, List<Partition>> partitionsByYear = new HashMap<>();
+    private final PageCache cache;
+
+    /*
+     * 목차의 분할 항목입니다. (기준년도, 강의) 하나의 위치와 크기를 담습니다.
+     */
+    private static class Partition {
+        final String year;
+        final int lectureId;
+        final String lectureName;
+        final String time;
+        final int studentCount;
+        final int gradeCount;
+        final int firstPage;
+        final int studentPages;
+        final int gradePages;
+
+        Partition(String year, int lectureId, String lectureName, String time, int studentCount, int gradeCount,
+                  int firstPage, int studentPages, int gradePages) {
+            this.year = year;
+            this.lectureId = lectureId;
+            this.lectureName = lectureName;
+            this.time = time;
+            this.studentCount = studentCount;
+            this.gradeCount = gradeCount;
+            this.firstPage = firstPage;
+            this.studentPages = studentPages;
+            this.gradePages = gradePages;
+        }
+
+        int pageCount() {
+            return studentPages + gradePages;
+        }
+
+        Partition movedTo(int page) {
+            return new Partition(year, lectureId, lectureName, time, studentCount, gradeCount, page, studentPages, gradePages);
+        }
+    }
+
+    private GradeArchive(FileChannel channel, List<Partition> partitions, int cachePages) {
+        this.channel = channel;
+        this.partitions = partitions;
+        this.cache = new PageCache(cachePages);
+        for (Partition partition : partitions) {
+            partitionsByYear.computeIfAbsent(partition.year, year -> new ArrayList<>()).add(partition);
+        }
+    }
+
+    /*
+     * 보관 파일을 열고 목차만 읽습니다. 파일이 없으면 빈 보관 파일로 엽니다.
+     * cachePages는 메모리에 둘 최대 페이지 수입니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public static GradeArchive open(Path path, int cachePages) throws IOException {
+        if (!Files.exists(path)) {
+            return new GradeArchive(null, Collections.<Partition>emptyList(), cachePages);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = read(channel, 0, 24);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("보관 파일 형식이 아닙니다: " + path);
+            }
+            if (header.getInt() != VERSION || header.getInt() != PAGE_SIZE) {
+                throw new IOException("지원하지 않는 보관 파일 버전입니다: " + path);
+            }
+            int directoryPage = header.getInt();
+            int directoryLength = header.getInt();
+            int count = header.getInt();
+
+            ByteBuffer directory = read(channel, (long) directoryPage * PAGE_SIZE, directoryLength);
+            List<Partition> partitions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                partitions.add(new Partition(getString(directory), directory.getInt(), getString(directory), getString(directory),
+                        directory.getInt(), directory.getInt(), directory.getInt(), directory.getInt(), directory.getInt()));
+            }
+            return new GradeArchive(channel, partitions, cachePages);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("보관 파일이 손상되었습니다: " + path, e);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("보관 파일이 잘렸습니다.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    // ===== 목차 조회 =====
+
+    /*
+     * 보관된 기준년도 목록을 정렬하여 반환합니다.
+     */
+    public Set<String> getYears() {
+        return new TreeSet<>(partitionsByYear.keySet());
+    }
+
+    public boolean hasYear(String year) {
+        return partitionsByYear.containsKey(year);
+    }
+
+    /*
+     * 보관된 연도의 강의 목록을 반환합니다. 목차만 읽으므로 페이지를 읽지 않습니다.
+     */
+    public List<Lecture> getLectures(String year) {
+        List<Lecture> lectures = new ArrayList<>();
+        for (Partition partition : partitionsByYear.getOrDefault(year, Collections.<Partition>emptyList())) {
+            lectures.add(new Lecture(partition.lectureId, partition.year, partition.lectureName, partition.time));
+        }
+        return lectures;
+    }
+
+    /*
+     * 보관된 연도의 성적 수를 반환합니다. lectureName이 null이면 연도 전체입니다.
+     */
+    public int getGradeCount(String year, String lectureName) {
+        int count = 0;
+        for (Partition partition : select(year, lectureName)) {
+            count += partition.gradeCount;
+        }
+        return count;
+    }
+
+    private List<Partition> select(String year, String lectureName) {
+        List<Partition> selected = new ArrayList<>();
+        for (Partition partition : partitionsByYear.getOrDefault(year, Collections.<Partition>emptyList())) {
+            if (lectureName == null || partition.lectureName.equals(lectureName)) {
+                selected.add(partition);
+            }
+        }
+        return selected;
+    }
+
+    // ===== 페이지 읽기 =====
+
+    /*
+     * 보관된 연도의 성적을 읽어 새 성적 저장소로 반환합니다. lectureName이 null이면 연도 전체입니다.
+     * 해당 분할의 성적 페이지만 읽으며, 반환한 저장소는 자체 문자열 사전을 사용하므로
+     * 화면의 저장소(DataRepository)와 섞이지 않고 다 쓰면 통째로 버릴 수 있습니다.
+     *
+     * @throws IOException 페이지를 읽을 수 없는 경우
+     */
+    public GradeStore readGrades(String year, String lectureName) throws IOException {
+        GradeStore grades = new GradeStore(new SymbolTable());
+        for (Partition partition : select(year, lectureName)) {
+            int first = partition.firstPage + partition.studentPages;
+            for (int page = first; page < first + partition.gradePages; page++) {
+                ByteBuffer buffer = page(page, GRADE_PAGE);
+                int count = buffer.getShort() & 0xFFFF;
+                for (int i = 0; i < count; i++) {
+                    int id = buffer.getInt();
+                    String studentName = getString(buffer);
+                    grades.add(id, partition.lectureName, partition.year, studentName,
+                               buffer.getInt(), buffer.getInt(), buffer.getInt());
+                }
+            }
+        }
+        return grades;
+    }
+
+    /*
+     * 보관된 연도의 수강 정보를 읽습니다. lectureName이 null이면 연도 전체입니다.
+     *
+     * @throws IOException 페이지를 읽을 수 없는 경우
+     */
+    public List<Student> readStudents(String year, String lectureName) throws IOException {
+        List<Student> students = new ArrayList<>();
+        for (Partition partition : select(year, lectureName)) {
+            for (int page = partition.firstPage; page < partition.firstPage + partition.studentPages; page++) {
+                ByteBuffer buffer = page(page, STUDENT_PAGE);
+                int count = buffer.getShort() & 0xFFFF;
+                for (int i = 0; i < count; i++) {
+                    students.add(new Student(buffer.getInt(), partition.lectureName, partition.year,
+                                             getString(buffer), getString(buffer)));
+                }
+            }
+        }
+        return students;
+    }
+
+    /*
+     * 페이지를 캐시에서 (없으면 파일에서) 가져와 종류를 확인하고, 머리의 레코드 수 위치에 맞춘 버퍼를 반환합니다.
+     */
+    private ByteBuffer page(int number, byte kind) throws IOException {
+        ByteBuffer buffer = cache.get(number);
+        if (buffer.get() != kind) {
+            throw new IOException("보관 파일이 손상되었습니다: " + number + "번 페이지");
+        }
+        return buffer;
+    }
+
+    /*
+     * 파일에서 실제로 읽은 페이지 수를 반환합니다. (캐시에서 찾은 페이지는 세지 않음)
+     */
+    public long getPageReads() {
+        return cache.reads;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /*
+     * 최근에 쓴 페이지를 보관하는 캐시입니다. 가득 차면 가장 오래전에 쓴 페이지를 버립니다.
+     */
+    private class PageCache {
+        private final Map<Integer, ByteBuffer> pages;
+        private long reads;
+
+        PageCache(int capacity) {
+            this.pages = new LinkedHashMap<Integer, ByteBuffer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        synchronized ByteBuffer get(int number) throws IOException {
+            ByteBuffer page = pages.get(number);
+            if (page == null) {
+                page = read(channel, (long) number * PAGE_SIZE, PAGE_SIZE);
+                reads++;
+                pages.put(number, page);
+            }
+            return page.duplicate();
+        }
+    }
+
+    // ===== 쓰기 =====
+
+    /*
+     * 기존 보관 파일(existing)의 내용에 year 연도의 강의, 수강 정보, 성적을 더한 보관 파일을 target에 씁니다.
+     * 다른 연도의 분할은 페이지를 그대로 복사하고, existing에 같은 연도가 있으면 새 내용으로 바꿉니다.
+     * 데이터는 한 번씩만 훑어 강의별로 나누므로 저장소의 스냅샷(조회 인덱스 없음)을 넘겨도 됩니다.
+     * 새 연도의 분할 수를 반환합니다.
+     *
+     * @throws IOException 파일을 읽거나 쓰는 중 오류가 발생한 경우
+     */
+    public static int write(Path target, Path existing, String year,
+                            List<Lecture> lectures, List<Student> students, GradeStore grades) throws IOException {
+        // 연도의 수강 정보와 성적 행을 강의별로 나눕니다.
+        Map<String, List<Student>> studentsByLecture = new HashMap<>();
+        for (Student student : students) {
+            if (student.getYear().equals(year)) {
+                studentsByLecture.computeIfAbsent(student.getLectureName(), name -> new ArrayList<>()).add(student);
+            }
+        }
+        Map<String, IntList> rowsByLecture = new HashMap<>();
+        int yearCode = grades.getSymbols().find(year);
+        for (int row = 0; yearCode >= 0 && row < grades.size(); row++) {
+            if (grades.getYearCode(row) == yearCode) {
+                rowsByLecture.computeIfAbsent(grades.getLectureName(row), name -> new IntList()).add(row);
+            }
+        }
+
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<Partition> directory = new ArrayList<>();
+            int nextPage = 1;
+
+            // 다른 연도의 분할은 페이지를 그대로 복사합니다.
+            if (existing != null && Files.exists(existing)) {
+                try (GradeArchive old = open(existing, 0)) {
+                    for (Partition partition : old.partitions) {
+                        if (partition.year.equals(year)) {
+                            continue;
+                        }
+                        long position = (long) partition.firstPage * PAGE_SIZE;
+                        long length = (long) partition.pageCount() * PAGE_SIZE;
+                        out.position((long) nextPage * PAGE_SIZE);
+                        for (long copied = 0; copied < length; ) {
+                            copied += old.channel.transferTo(position + copied, length - copied, out);
+                        }
+                        directory.add(partition.movedTo(nextPage));
+                        nextPage += partition.pageCount();
+                    }
+                }
+            }
+
+            // 새 연도의 분할을 덧붙입니다.
+            PageWriter pages = new PageWriter(out, nextPage);
+            int added = 0;
+            for (Lecture lecture : lectures) {
+                if (!lecture.getYear().equals(year)) {
+                    continue;
+                }
+                int firstPage = pages.page;
+                List<Student> enrolled = studentsByLecture.getOrDefault(lecture.getName(), Collections.<Student>emptyList());
+                pages.begin(STUDENT_PAGE);
+                for (Student student : enrolled) {
+                    DataOutputStream record = pages.startRecord();
+                    record.writeInt(student.getId());
+                    putString(record, student.getName());
+                    putString(record, student.getStudentId());
+                    pages.endRecord();
+                }
+                int studentPages = pages.finish();
+
+                IntList rows = rowsByLecture.getOrDefault(lecture.getName(), new IntList(0));
+                pages.begin(GRADE_PAGE);
+                for (int i = 0; i < rows.size(); i++) {
+                    int row = rows.get(i);
+                    DataOutputStream record = pages.startRecord();
+                    record.writeInt(grades.getId(row));
+                    putString(record, grades.getStudentName(row));
+                    record.writeInt(grades.getMidterm(row));
+                    record.writeInt(grades.getFinalExam(row));
+                    record.writeInt(grades.getAssignment(row));
+                    pages.endRecord();
+                }
+                int gradePages = pages.finish();
+
+                directory.add(new Partition(year, lecture.getId(), lecture.getName(), lecture.getTime(),
+                        enrolled.size(), rows.size(), firstPage, studentPages, gradePages));
+                added++;
+            }
+
+            // 목차와 머리 페이지
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream entry = new DataOutputStream(bytes);
+            for (Partition partition : directory) {
+                putString(entry, partition.year);
+                entry.writeInt(partition.lectureId);
+                putString(entry, partition.lectureName);
+                putString(entry, partition.time);
+                entry.writeInt(partition.studentCount);
+                entry.writeInt(partition.gradeCount);
+                entry.writeInt(partition.firstPage);
+                entry.writeInt(partition.studentPages);
+                entry.writeInt(partition.gradePages);
+            }
+            writeFully(out, (long) pages.page * PAGE_SIZE, ByteBuffer.wrap(bytes.toByteArray()));
+
+            ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(PAGE_SIZE)
+                  .putInt(pages.page).putInt(bytes.size()).putInt(directory.size());
+            header.rewind();
+            writeFully(out, 0, header);
+            return added;
+        }
+    }
+
+    private static void writeFully(FileChannel out, long position, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IOException("문자열이 너무 깁니다: " + value.substring(0, 20) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * 레코드를 페이지 단위로 모아 쓰는 도우미입니다.
+     * 레코드가 현재 페이지에 들어가지 않으면 페이지를 쓰고 같은 종류의 새 페이지를 시작합니다.
+     */
+    private static class PageWriter {
+        private final FileChannel out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(PAGE_SIZE);
+        private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(64);
+        private final DataOutputStream record = new DataOutputStream(recordBytes);
+        private byte kind;
+        private int count;
+        private int written;
+        int page; // 다음에 쓸 페이지 번호
+
+        PageWriter(FileChannel out, int page) {
+            this.out = out;
+            this.page = page;
+        }
+
+        void begin(byte kind) {
+            this.kind = kind;
+            this.written = 0;
+            reset();
+        }
+
+        /*
+         * 새 레코드를 시작하고 레코드 내용을 쓸 스트림을 반환합니다. 다 쓰면 endRecord()를 호출합니다.
+         */
+        DataOutputStream startRecord() {
+            recordBytes.reset();
+            return record;
+        }
+
+        void endRecord() throws IOException {
+            if (recordBytes.size() > PAGE_SIZE - PAGE_HEADER) {
+                throw new IOException("레코드가 페이지보다 큽니다.");
+            }
+            if (recordBytes.size() > buffer.remaining() || count == 0xFFFF) {
+                flush();
+            }
+            buffer.put(recordBytes.toByteArray());
+            count++;
+        }
+
+        /*
+         * 남은 레코드를 쓰고 begin() 이후 쓴 페이지 수를 반환합니다.
+         */
+        int finish() throws IOException {
+            if (count > 0) {
+                flush();
+            }
+            return written;
+        }
+
+        private void flush() throws IOException {
+            buffer.putShort(1, (short) count);
+            buffer.clear();
+            writeFully(out, (long) page * PAGE_SIZE, buffer);
+            page++;
+            written++;
+            reset();
+        }
+
+        private void reset() {
+            buffer.clear();
+            Arrays.fill(buffer.array(), (byte) 0);
+            buffer.put(kind).putShort((short) 0);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+
+/*
+ * 성적 관리 패널 클래스입니다.
+ * 성적 목록을 표시하고 성적을 추가할 수 있습니다.
+ */
+class GradePanel extends JPanel {
+    private DataRepository repository;
+    private JTable gradeTable;
+    private GradeTableModel tableModel;
+    private JPanel buttonPanel; // 성적 추가, 일괄 입력 버튼
+
+    static final int STUDENT_LIMIT = 100; // 학생 콤보박스에 표시할 최대 학생 수
+
+    private JComboBox<String> lectureComboBox;
+    private SearchField studentSearchField; // 학생 이름, 학번 검색
+    private JComboBox<String> studentComboBox;
+    private JTextField midtermField, finalExamField, assignmentField;
+
+    /*
+     * 성적 관리 패널의 생성자입니다.
+     * 성적, 학생, 강의 데이터를 담은 저장소를 전달받습니다.
+     */
+    public GradePanel(DataRepository repository) {
+        this.repository = repository;
+
+        setLayout(new BorderLayout());
+
+        // 테이블 생성
+        tableModel = new GradeTableModel(repository.getGradeStore());
+        gradeTable = new JTable(tableModel);
+        add(new JScrollPane(gradeTable), BorderLayout.CENTER);
+
+        // 저장소가 바뀌면 바뀐 성적 행과 콤보박스 항목만 갱신합니다.
+        repository.addRowListener((list, type, first, last) -> {
+            if (list == DataRepository.GRADES) {
+                tableModel.rowsChanged(type, first, last);
+            } else if (list == DataRepository.LECTURES) {
+                lecturesChanged(type, first, last);
+            } else {
+                studentsChanged(type, first, last);
+            }
+        });
+
+        // 입력 패널 생성
+        JPanel inputPanel = new JPanel(new GridLayout(6, 2, 10, 10));
+
+        // 강의 선택
+        inputPanel.add(new JLabel("강의:"));
+        lectureComboBox = new JComboBox<>();
+        lectureComboBox.addActionListener(e -> updateStudentComboBox());
+        inputPanel.add(lectureComboBox);
+
+        // 학생 검색 (입력하는 동안 학생 콤보박스를 검색 결과로 바꿈)
+        inputPanel.add(new JLabel("학생 검색(이름/학번):"));
+        studentSearchField = new SearchField(20, query -> updateStudentComboBox());
+        inputPanel.add(studentSearchField);
+
+        // 학생 선택
+        inputPanel.add(new JLabel("학생:"));
+        studentComboBox = new JComboBox<>();
+        inputPanel.add(studentComboBox);
+
+        // 중간고사 성적
+        inputPanel.add(new JLabel("중간고사:"));
+        midtermField = new JTextField();
+        inputPanel.add(midtermField);
+
+        // 기말고사 성적
+        inputPanel.add(new JLabel("기말고사:"));
+        finalExamField = new JTextField();
+        inputPanel.add(finalExamField);
+
+        // 과제 성적
+        inputPanel.add(new JLabel("과제:"));
+        assignmentField = new JTextField();
+        inputPanel.add(assignmentField);
+
+        add(inputPanel, BorderLayout.NORTH);
+
+        // 버튼 패널 생성
+        buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        JButton addButton = new JButton("성적 추가");
+        addButton.addActionListener(e -> addGrade());
+        buttonPanel.add(addButton);
+        JButton batchButton = new JButton("일괄 입력");
+        batchButton.addActionListener(e -> openBatchEntry());
+        buttonPanel.add(batchButton);
+
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        // 초기 데이터 로드
+        updateLectureComboBox();
+    }
+
+    /*
+     * 강의 콤보박스를 업데이트하는 메소드입니다.
+     * 강의 목록을 콤보박스에 추가합니다.
+     */
+    void updateLectureComboBox() {
+        lectureComboBox.removeAllItems();
+        for (Lecture lecture : repository.getLectures()) {
+            lectureComboBox.addItem(lecture.getName());
+        }
+
+        if (lectureComboBox.getItemCount() > 0) {
+            lectureComboBox.setSelectedIndex(0);
+            updateStudentComboBox();
+        } else {
+            //System.out.println("강의 목록이 비어 있습니다.");
+        }
+    }
+
+    /*
+     * 강의 목록의 변경을 강의 콤보박스에 반영합니다.
+     * 콤보박스는 강의 목록과 같은 순서이므로 추가, 삭제된 위치의 항목만 바꿉니다.
+     */
+    private void lecturesChanged(int type, int first, int last) {
+        if (type == DataRepository.INSERTED) {
+            for (int i = first; i <= last; i++) {
+                lectureComboBox.addItem(repository.getLectures().get(i).getName());
+            }
+        } else if (type == DataRepository.DELETED) {
+            for (int i = last; i >= first; i--) {
+                lectureComboBox.removeItemAt(i);
+            }
+        } else if (type == DataRepository.ALL_CHANGED) {
+            updateLectureComboBox();
+        }
+    }
+
+    /*
+     * 학생 목록의 변경을 학생 콤보박스에 반영합니다.
+     * 선택된 강의에 검색어와 맞는 학생이 추가되면 항목 하나만 추가하고, 그 밖의 변경은 목록을 다시 구합니다.
+     */
+    private void studentsChanged(int type, int first, int last) {
+        if (type != DataRepository.INSERTED) {
+            updateStudentComboBox();
+            return;
+        }
+        String query = studentSearchField.getQuery();
+        for (int i = first; i <= last && studentComboBox.getItemCount() < STUDENT_LIMIT; i++) {
+            Student student = repository.getStudents().get(i);
+            if (student.getLectureName().equals(lectureComboBox.getSelectedItem())
+                    && (student.getName().startsWith(query) || student.getStudentId().startsWith(query))) {
+                studentComboBox.addItem(student.getName());
+            }
+        }
+    }
+
+    /*
+     * 학생 콤보박스를 업데이트하는 메소드입니다.
+     * 선택된 강의에 등록된 학생 중 이름이나 학번이 검색어로 시작하는 학생을 최대 STUDENT_LIMIT명 표시합니다.
+     * 항목을 하나씩 추가하면 추가할 때마다 이벤트가 발생하므로 새 모델을 한 번에 설정합니다.
+     */
+    public void updateStudentComboBox() {
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+        //System.out.println("선택된 강의: " + selectedLecture);
+
+        java.util.List<Student> matches = selectedLecture == null ? Collections.emptyList()
+                : repository.searchStudents(studentSearchField.getQuery(), selectedLecture, STUDENT_LIMIT);
+        String[] names = new String[matches.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = matches.get(i).getName();
+        }
+        studentComboBox.setModel(new DefaultComboBoxModel<>(names));
+
+        if (studentComboBox.getItemCount() == 0) {
+            //System.out.println("선택된 강의에 등록된 학생이 없습니다.");
+        }
+    }
+
+    /*
+     * 성적을 테이블에 로드하는 메소드입니다.
+     * 테이블 모델은 성적 목록을 직접 읽으므로 변경 사실만 알립니다.
+     */
+    public void loadGradesToTable() {
+        Metrics.Operation operation = Metrics.start("table.grades");
+        tableModel.fireTableDataChanged();
+        operation.end(tableModel.getRowCount(), 0);
+    }
+
+    /*
+     * 성적 추가, 일괄 입력 버튼을 사용할 수 있는지 설정합니다.
+     * 파일을 불러오는 동안에는 변경이 저널에 기록되지 않으므로 메인 애플리케이션이 버튼을 비활성화합니다.
+     */
+    public void setEditable(boolean editable) {
+        for (Component button : buttonPanel.getComponents()) {
+            button.setEnabled(editable);
+        }
+    }
+
+    /*
+     * 선택한 강의의 수강생 전체 성적을 표에서 입력하는 일괄 입력 창을 엽니다.
+     * 저장된 성적은 저장소의 행 변경 알림으로 한 번에 테이블에 반영됩니다.
+     */
+    private void openBatchEntry() {
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+        if (selectedLecture == null) {
+            JOptionPane.showMessageDialog(this, "강의를 선택해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (repository.getStudentsByLecture(selectedLecture).isEmpty()) {
+            JOptionPane.showMessageDialog(this, "선택한 강의에 수강생이 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        new BatchGradeDialog(this, repository, selectedLecture).setVisible(true);
+    }
+
+    /*
+     * 성적을 추가하는 메소드입니다.
+     * 입력된 성적을 성적 목록에 추가합니다.
+     */
+    private void addGrade() {
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+        String selectedStudent = (String) studentComboBox.getSelectedItem();
+        String midtermText = midtermField.getText().trim();
+        String finalExamText = finalExamField.getText().trim();
+        String assignmentText = assignmentField.getText().trim();
+    
+        if (selectedLecture == null || selectedStudent == null) {
+            JOptionPane.showMessageDialog(this, "강의와 학생을 선택해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        
+        if (midtermText.isEmpty() && finalExamText.isEmpty() && assignmentText.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "최소 하나의 성적을 입력해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        
+    
+        try {
+            // 입력값 처리 (빈 입력란은 0으로 처리)
+            int midterm = midtermText.isEmpty() ? 0 : Integer.parseInt(midtermText);
+            int finalExam = finalExamText.isEmpty() ? 0 : Integer.parseInt(finalExamText);
+            int assignment = assignmentText.isEmpty() ? 0 : Integer.parseInt(assignmentText);
+        
+            // 기존 성적 검색 (검색과 저장에 걸린 시간만 측정하고 확인 창은 포함하지 않습니다)
+            Metrics.Operation operation = Metrics.start("grade.add", selectedLecture);
+            Grade existingGrade = repository.findGrade(selectedLecture, selectedStudent);
+        
+            if (existingGrade != null) {
+                // 기존 성적 수정
+                repository.updateGrade(existingGrade, midterm, finalExam, assignment);
+                operation.end(1, 0);
+        
+                JOptionPane.showMessageDialog(this, "기존 성적이 수정되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+            } else {
+                // 새로운 성적 추가
+                Student matchedStudent = repository.findEnrollment(selectedLecture, selectedStudent);
+        
+                if (matchedStudent == null) {
+                    operation.fail();
+                    JOptionPane.showMessageDialog(this, "학생 데이터를 찾을 수 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+        
+                int id = repository.getGrades().size() + 1;
+                repository.addGrade(id, selectedLecture, matchedStudent.getYear(), selectedStudent, midterm, finalExam, assignment);
+                operation.end(1, 0);
+        
+                JOptionPane.showMessageDialog(this, "성적이 추가되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+            }
+        
+            // 테이블은 저장소의 행 변경 알림으로 추가, 수정된 행만 갱신됩니다.
+        
+            // 입력 필드 초기화
+            midtermField.setText("");
+            finalExamField.setText("");
+            assignmentField.setText("");
+        
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "성적 입력란에 올바른 숫자를 입력해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+        }
+        
+    }
+    
+}
@@ -0,0 +1,517 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/*
+ * 성적 조회 조건과 정렬, 개수 제한을 담은 질의입니다.
+ * 조회 화면의 조건 입력란과 명령행 query 명령이 같은 문법을 사용합니다.
+ *
+ *   기준년도=2024 강의명=자바* 평균<60 과제=0 학생명=김* 정렬=-총점 개수=100
+ *
+ * 문자열 필드(기준년도, 강의명, 학생명)는 = 와 !=, 점수 필드(중간고사, 기말고사, 과제, 총점, 평균, ID)는
+ * = != < <= > >= 를 사용합니다. 문자열 값에는 와일드카드 * 와 ? 를 쓸 수 있고,
+ * 공백이 있는 값은 큰따옴표로 감쌉니다. 정렬 필드 앞의 -는 내림차순입니다.
+ *
+ * run()은 조건마다 한 번 열 하나의 값 범위(평균은 총점 범위) 또는 문자열 번호 판정으로 컴파일한 뒤
+ * 인덱스로 후보를 줄일 수 있으면(학생명, 강의명과 기준년도 분할) 후보 행만, 아니면 열 전체를 훑습니다.
+ * 문자열 조건(와일드카드)은 문자열 번호마다 한 번만 비교합니다.
+ * 저장소를 수정하는 스레드에서 실행하거나 GradeStore.snapshot()으로 만든 스냅샷에 실행해야 합니다.
+ */
+class GradeQuery {
+    static final int YEAR = 0;
+    static final int LECTURE = 1;
+    static final int STUDENT = 2;
+    static final int MIDTERM = 3;
+    static final int FINAL_EXAM = 4;
+    static final int ASSIGNMENT = 5;
+    static final int TOTAL = 6;
+    static final int AVERAGE = 7;
+    static final int ID = 8;
+
+    // 필드 번호 순서의 필드 이름 (첫 번째가 대표 이름)
+    private static final String[][] FIELD_NAMES = {
+            {"기준년도", "year"}, {"강의명", "강의", "lecture"}, {"학생명", "학생", "student"},
+            {"중간고사", "중간", "midterm"}, {"기말고사", "기말", "final"}, {"과제", "assignment"},
+            {"총점", "total"}, {"평균", "average", "avg"}, {"ID", "id"}};
+    private static final String[] SORT_NAMES = {"정렬", "sort"};
+    private static final String[] LIMIT_NAMES = {"개수", "limit"};
+    private static final String[] OPERATORS = {"<=", ">=", "!=", "=", "<", ">"}; // 긴 연산자부터 비교
+
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16; // 이보다 많은 결과는 병렬 정렬
+
+    /*
+     * 조건 하나입니다. 문자열 필드는 text, 점수 필드는 number를 사용합니다.
+     */
+    private static class Condition {
+        final int field;
+        final String operator;
+        final String text;
+        final double number;
+
+        Condition(int field, String operator, String text, double number) {
+            this.field = field;
+            this.operator = operator;
+            this.text = text;
+            this.number = number;
+        }
+    }
+
+    private final List<Condition> conditions = new ArrayList<>();
+    private int sortField = -1; // -1이면 행 번호 순서
+    private boolean descending;
+    private int limit; // 0이면 제한 없음
+
+    /*
+     * 조건 문자열을 해석합니다. 빈 문자열은 조건이 없는 질의입니다.
+     *
+     * @throws IllegalArgumentException 문법이 올바르지 않은 경우
+     */
+    public static GradeQuery parse(String text) {
+        return parse(split(text));
+    }
+
+    /*
+     * 이미 나뉜 조건들을 해석합니다. (명령행 인자)
+     */
+    public static GradeQuery parse(List<String> terms) {
+        GradeQuery query = new GradeQuery();
+        for (String term : terms) {
+            query.addTerm(term);
+        }
+        return query;
+    }
+
+    /*
+     * 공백으로 조건을 나눕니다. 큰따옴표 안의 공백은 나누지 않으며 따옴표는 지웁니다.
+     */
+    private static List<String> split(String text) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (Character.isWhitespace(c) && !quoted) {
+                if (term.length() > 0) {
+                    terms.add(term.toString());
+                    term.setLength(0);
+                }
+            } else {
+                term.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다.");
+        }
+        if (term.length() > 0) {
+            terms.add(term.toString());
+        }
+        return terms;
+    }
+
+    private void addTerm(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            for (String operator : OPERATORS) {
+                if (term.startsWith(operator, i)) {
+                    String name = term.substring(0, i);
+                    String value = term.substring(i + operator.length());
+                    if (name.isEmpty() || value.isEmpty()) {
+                        throw new IllegalArgumentException("조건에 필드 이름이나 값이 없습니다: " + term);
+                    }
+                    if (matches(SORT_NAMES, name) && operator.equals("=")) {
+                        boolean reverse = value.startsWith("-");
+                        sortBy(fieldOf(reverse ? value.substring(1) : value), reverse);
+                    } else if (matches(LIMIT_NAMES, name) && operator.equals("=")) {
+                        limit(parseNumber(value, term).intValue());
+                    } else {
+                        where(fieldOf(name), operator, value);
+                    }
+                    return;
+                }
+            }
+        }
+        throw new IllegalArgumentException("조건에 비교 연산자가 없습니다: " + term);
+    }
+
+    private static boolean matches(String[] names, String name) {
+        for (String candidate : names) {
+            if (candidate.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * 필드 이름의 번호를 반환합니다.
+     */
+    static int fieldOf(String name) {
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            if (matches(FIELD_NAMES[field], name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 필드입니다: " + name);
+    }
+
+    private static Double parseNumber(String value, String term) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("숫자가 아닌 값입니다: " + term);
+        }
+    }
+
+    private static boolean isText(int field) {
+        return field == YEAR || field == LECTURE || field == STUDENT;
+    }
+
+    /*
+     * 조건을 추가합니다. 모든 조건을 만족하는 성적만 조회합니다.
+     *
+     * @throws IllegalArgumentException 필드에 쓸 수 없는 연산자이거나 점수 필드의 값이 숫자가 아닌 경우
+     */
+    public GradeQuery where(int field, String operator, String value) {
+        if (isText(field)) {
+            if (!operator.equals("=") && !operator.equals("!=")) {
+                throw new IllegalArgumentException(FIELD_NAMES[field][0] + "에는 = 나 != 만 쓸 수 있습니다.");
+            }
+            conditions.add(new Condition(field, operator, value, 0));
+        } else {
+            conditions.add(new Condition(field, operator, null, parseNumber(value, FIELD_NAMES[field][0] + operator + value)));
+        }
+        return this;
+    }
+
+    public GradeQuery sortBy(int field, boolean descending) {
+        this.sortField = field;
+        this.descending = descending;
+        return this;
+    }
+
+    public GradeQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("개수는 0 이상이어야 합니다.");
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    /*
+     * 조건, 정렬, 개수 제한이 하나도 없는지 여부입니다.
+     */
+    public boolean isEmpty() {
+        return conditions.isEmpty() && sortField < 0 && limit == 0;
+    }
+
+    // ===== 실행 =====
+
+    /*
+     * 조건에 맞는 행 번호 배열을 정렬 순서대로(정렬이 없으면 행 번호 순서대로) 반환합니다.
+     */
+    public int[] run(GradeStore store) {
+        Filter[] filters = new Filter[conditions.size()];
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = compile(store, conditions.get(i));
+        }
+        int stopAt = sortField < 0 && limit > 0 ? limit : Integer.MAX_VALUE; // 정렬이 없으면 앞에서부터 limit개
+
+        IntList result = new IntList();
+        int[] candidates = candidates(store);
+        if (candidates == null) {
+            int size = store.size();
+            for (int row = 0; row < size && result.size() < stopAt; row++) {
+                if (accept(store, filters, row)) {
+                    result.add(row);
+                }
+            }
+        } else {
+            for (int i = 0; i < candidates.length && result.size() < stopAt; i++) {
+                if (accept(store, filters, candidates[i])) {
+                    result.add(candidates[i]);
+                }
+            }
+        }
+        return sortField < 0 ? result.toArray() : sort(store, result.toArray());
+    }
+
+    private static boolean accept(GradeStore store, Filter[] filters, int row) {
+        for (Filter filter : filters) {
+            if (!filter.test(column(store, filter.column, row))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 인덱스로 고른 후보 행 번호를 오름차순으로 반환합니다. 인덱스를 쓸 수 없으면 null을 반환합니다.
+     * 학생명이 정확히 주어지면 학생의 행 목록을, 강의명이나 기준년도가 있으면 (강의, 기준년도) 분할을 사용합니다.
+     */
+    private int[] candidates(GradeStore store) {
+        Condition year = null;
+        Condition lecture = null;
+        for (Condition condition : conditions) {
+            if (!condition.operator.equals("=")) {
+                continue;
+            }
+            if (condition.field == STUDENT && !SymbolMatcher.isPattern(condition.text)) {
+                int[] rows = store.rowsOfStudent(condition.text);
+                Arrays.sort(rows);
+                return rows;
+            } else if (condition.field == YEAR && !SymbolMatcher.isPattern(condition.text)) {
+                year = condition;
+            } else if (condition.field == LECTURE) {
+                lecture = condition;
+            }
+        }
+        if (year == null && lecture == null) {
+            return null;
+        }
+        int yearCode = year == null ? -1 : store.getSymbols().find(year.text);
+        if (year != null && yearCode < 0) {
+            return new int[0];
+        }
+        IntPredicate lectures = lecture == null ? code -> true : new SymbolMatcher(store.getSymbols(), lecture.text);
+        IntList rows = store.rowsOfPartitions(lectures, yearCode);
+        if (rows == null) {
+            return null; // 인덱스가 없는 스냅샷
+        }
+        int[] sorted = rows.toArray();
+        if (sorted.length > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sorted);
+        } else {
+            Arrays.sort(sorted);
+        }
+        return sorted;
+    }
+
+    /*
+     * 컴파일된 조건 하나입니다. 열 값이 [low, high] 범위에 있는지(문자열 필드는 matcher가 일치하는지)를 봅니다.
+     */
+    private static final class Filter {
+        final int column;
+        final long low;
+        final long high;
+        final SymbolMatcher matcher; // 문자열 필드만 사용
+        final boolean negate;
+
+        Filter(int column, long low, long high, SymbolMatcher matcher, boolean negate) {
+            this.column = column;
+            this.low = low;
+            this.high = high;
+            this.matcher = matcher;
+            this.negate = negate;
+        }
+
+        boolean test(int value) {
+            boolean matched = matcher != null ? matcher.test(value) : value >= low && value <= high;
+            return matched != negate;
+        }
+    }
+
+    /*
+     * 조건을 열 하나에 대한 판정으로 바꿉니다.
+     * 점수 조건은 정수 범위로 바꾸며, 평균은 총점에 대해 단조 증가하므로 총점 범위로 바꿉니다.
+     */
+    private static Filter compile(GradeStore store, Condition condition) {
+        int field = condition.field;
+        if (isText(field)) {
+            return new Filter(field, 0, 0, new SymbolMatcher(store.getSymbols(), condition.text),
+                              condition.operator.equals("!="));
+        }
+        int column = field == AVERAGE ? TOTAL : field;
+        long atLeast = firstAtLeast(field, condition.number, false); // 값 >= number인 가장 작은 열 값
+        long above = firstAtLeast(field, condition.number, true);    // 값 > number인 가장 작은 열 값
+        switch (condition.operator) {
+            case "<":  return new Filter(column, Long.MIN_VALUE, atLeast - 1, null, false);
+            case "<=": return new Filter(column, Long.MIN_VALUE, above - 1, null, false);
+            case ">":  return new Filter(column, above, Long.MAX_VALUE, null, false);
+            case ">=": return new Filter(column, atLeast, Long.MAX_VALUE, null, false);
+            case "!=": return new Filter(column, atLeast, above - 1, null, true);
+            default:   return new Filter(column, atLeast, above - 1, null, false);
+        }
+    }
+
+    /*
+     * 필드 값이 number 이상(strict이면 초과)이 되는 가장 작은 열 값을 구합니다.
+     * 평균은 GradeStore.getAverage와 같은 반올림을 적용해 총점을 찾습니다.
+     */
+    private static long firstAtLeast(int field, double number, boolean strict) {
+        double limit = field == AVERAGE ? number * 3 : number;
+        if (limit > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE + 1L;
+        }
+        if (limit < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        if (field != AVERAGE) {
+            return strict ? (long) Math.floor(number) + 1 : (long) Math.ceil(number);
+        }
+        long total = (long) Math.floor(limit) - 3;
+        while (strict ? average(total) <= number : average(total) < number) {
+            total++;
+        }
+        return total;
+    }
+
+    private static double average(long total) {
+        return Math.round((total / 3.0) * 100) / 100.0;
+    }
+
+    private static int column(GradeStore store, int column, int row) {
+        switch (column) {
+            case YEAR: return store.getYearCode(row);
+            case LECTURE: return store.getLectureCode(row);
+            case STUDENT: return store.getStudentCode(row);
+            case MIDTERM: return store.getMidterm(row);
+            case FINAL_EXAM: return store.getFinalExam(row);
+            case ASSIGNMENT: return store.getAssignment(row);
+            case TOTAL: return store.getTotal(row);
+            default: return store.getId(row);
+        }
+    }
+
+    /*
+     * 행 번호를 정렬 필드 순서로 정렬하고 개수를 제한합니다.
+     * (정렬 키 << 32 | 행 번호)를 long으로 묶어 정렬하므로 같은 값은 행 번호 순서가 됩니다.
+     * 결과보다 limit이 훨씬 작으면 전체를 정렬하지 않고 크기 limit의 힙으로 앞쪽만 고릅니다.
+     */
+    private int[] sort(GradeStore store, int[] rows) {
+        int[] ranks = isText(sortField) ? symbolRanks(store, rows) : null;
+        long[] packed = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            int row = rows[i];
+            int key;
+            switch (sortField) {
+                case YEAR: case LECTURE: case STUDENT: key = ranks[column(store, sortField, row)]; break;
+                case AVERAGE: key = store.getTotal(row); break;
+                default: key = column(store, sortField, row);
+            }
+            packed[i] = ((long) (descending ? ~key : key) << 32) | row;
+        }
+
+        if (limit > 0 && limit < packed.length / 4) {
+            packed = smallest(packed, limit);
+        } else if (packed.length > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(packed);
+        } else {
+            Arrays.sort(packed);
+        }
+        int count = limit > 0 ? Math.min(limit, packed.length) : packed.length;
+        int[] sorted = new int[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = (int) packed[i];
+        }
+        return sorted;
+    }
+
+    /*
+     * 행들의 정렬 필드(문자열)가 가리키는 문자열 번호마다 문자열 순서의 순위를 매깁니다.
+     */
+    private int[] symbolRanks(GradeStore store, int[] rows) {
+        SymbolTable symbols = store.getSymbols();
+        int[] ranks = new int[symbols.size()];
+        IntList codes = new IntList();
+        for (int row : rows) {
+            int code = column(store, sortField, row);
+            if (ranks[code] == 0) {
+                ranks[code] = 1;
+                codes.add(code);
+            }
+        }
+        Integer[] sorted = new Integer[codes.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = codes.get(i);
+        }
+        Arrays.sort(sorted, (a, b) -> symbols.symbol(a).compareTo(symbols.symbol(b)));
+        for (int rank = 0; rank < sorted.length; rank++) {
+            ranks[sorted[rank]] = rank;
+        }
+        return ranks;
+    }
+
+    /*
+     * 가장 작은 값 count개를 오름차순으로 반환합니다. 크기 count의 최대 힙을 사용합니다.
+     */
+    private static long[] smallest(long[] values, int count) {
+        long[] heap = Arrays.copyOf(values, count);
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i);
+        }
+        for (int i = count; i < values.length; i++) {
+            if (values[i] < heap[0]) {
+                heap[0] = values[i];
+                siftDown(heap, 0);
+            }
+        }
+        Arrays.sort(heap);
+        return heap;
+    }
+
+    private static void siftDown(long[] heap, int index) {
+        long value = heap[index];
+        while (true) {
+            int child = index * 2 + 1;
+            if (child >= heap.length) {
+                break;
+            }
+            if (child + 1 < heap.length && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (heap[child] <= value) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    /*
+     * 문자열 번호가 값(와일드카드 포함)과 일치하는지 판단합니다.
+     * 와일드카드가 없으면 번호 하나와 비교하고, 있으면 번호마다 결과를 한 번만 계산해 기억합니다.
+     */
+    private static class SymbolMatcher implements IntPredicate {
+        private final SymbolTable symbols;
+        private final int exact;        // 와일드카드가 없을 때의 번호 (없는 문자열이면 -1)
+        private final Pattern pattern;  // 와일드카드가 있을 때만 사용
+        private byte[] memo = new byte[0]; // 번호 -> 0 미계산, 1 일치, 2 불일치
+
+        SymbolMatcher(SymbolTable symbols, String value) {
+            this.symbols = symbols;
+            if (isPattern(value)) {
+                StringBuilder regex = new StringBuilder();
+                for (String part : value.split("(?=[*?])|(?<=[*?])")) {
+                    regex.append(part.equals("*") ? ".*" : part.equals("?") ? "." : Pattern.quote(part));
+                }
+                this.pattern = Pattern.compile(regex.toString());
+                this.exact = -1;
+            } else {
+                this.pattern = null;
+                this.exact = symbols.find(value);
+            }
+        }
+
+        static boolean isPattern(String value) {
+            return value.indexOf('*') >= 0 || value.indexOf('?') >= 0;
+        }
+
+        @Override
+        public boolean test(int code) {
+            if (pattern == null) {
+                return code == exact;
+            }
+            if (code >= memo.length) {
+                memo = Arrays.copyOf(memo, Math.max(code + 1, symbols.size()));
+            }
+            if (memo[code] == 0) {
+                memo[code] = pattern.matcher(symbols.symbol(code)).matches() ? (byte) 1 : (byte) 2;
+            }
+            return memo[code] == 1;
+        }
+    }
+}
@@ -0,0 +1,506 @@
+import javax.swing.*;
+import java.awt.*;
+import java.io.*;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+/*
+ * 성적 조회 패널 클래스입니다.
+ * 성적 목록을 필터링하여 표시할 수 있습니다.
+ */
+class GradeQueryPanel extends JPanel {
+    static final String ARCHIVED = " (보관)"; // 기준년도 콤보박스에서 보관된 연도 뒤에 붙이는 표시
+
+    private DataRepository repository; // 강의, 학생, 성적 저장소
+    private JTable gradeTable;
+    private GradeTableModel tableModel;
+
+    private GradeArchive archive; // 지난 연도 보관 파일 (없으면 null)
+    private GradeStore archiveStore; // 표시 중인 보관 연도의 성적 (저장소의 성적을 표시 중이면 null)
+    private GradeTableModel archiveModel; // archiveStore를 표시하는 테이블 모델
+    private String archiveKey; // archiveStore에 읽어 둔 (기준년도, 강의명)
+    private int archiveRequest; // 마지막으로 요청한 보관 파일 읽기 번호
+    private String archivePendingKey; // 읽는 중인 (기준년도, 강의명) (없으면 null)
+    private GradeQuery archivePendingQuery; // 읽기가 끝나면 적용할 조건
+    private GradeQuery appliedQuery; // 표시 중인 필터의 조건 (조건 없이 인덱스로 찾았으면 null)
+    private String appliedLecture, appliedYear; // 인덱스로 찾은 필터의 강의명, 기준년도 (null은 전체)
+
+    private JComboBox<String> yearComboBox; // 기준년도 필터
+    private JComboBox<String> lectureComboBox; // 강의명 필터
+    private JTextField conditionField; // 추가 조건 (GradeQuery 문법)
+    private JButton analyzeButton; // 백분위, 석차 분석
+    private JButton exportButton; // 현재 필터 결과 CSV 내보내기
+
+    private JLabel statisticsLabel; // 인원, 평균, 표준편차, 최저, 최고
+    private JLabel histogramLabel; // 평균 점수 구간별 인원
+    private boolean statisticsPending; // 통계 갱신이 예약되었는지 여부
+
+    /*
+     * 성적 조회 패널의 생성자입니다.
+     * 강의, 학생, 성적 데이터를 담은 저장소를 전달받습니다.
+     */
+    public GradeQueryPanel(DataRepository repository) {
+        this.repository = repository;
+        setLayout(new BorderLayout());
+
+        // 상단 필터 패널 생성
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+
+        // 기준년도 콤보박스 생성
+        filterPanel.add(new JLabel("기준년도:"));
+        yearComboBox = new JComboBox<>();
+        yearComboBox.addItem("전체"); // 기본값
+        yearComboBox.addActionListener(e -> updateLectureComboBox());
+        filterPanel.add(yearComboBox);
+
+        // 강의명 콤보박스 생성
+        filterPanel.add(new JLabel("강의명:"));
+        lectureComboBox = new JComboBox<>();
+        lectureComboBox.addItem("전체"); // 기본값
+        lectureComboBox.addActionListener(e -> filterGrades());
+        filterPanel.add(lectureComboBox);
+
+        // 조건 입력란 생성 (Enter로 적용)
+        filterPanel.add(new JLabel("조건:"));
+        conditionField = new JTextField(24);
+        conditionField.setToolTipText("예) 강의명=자바* 평균<60 과제=0 학생명=김* 정렬=-총점 개수=100");
+        conditionField.addActionListener(e -> filterGrades());
+        filterPanel.add(conditionField);
+
+        // 분석 버튼 생성
+        analyzeButton = new JButton("분석");
+        analyzeButton.addActionListener(e -> analyzeGrades());
+        filterPanel.add(analyzeButton);
+
+        // CSV 내보내기 버튼 생성
+        exportButton = new JButton("CSV 내보내기");
+        exportButton.addActionListener(e -> exportGrades());
+        filterPanel.add(exportButton);
+
+        add(filterPanel, BorderLayout.NORTH);
+
+        // 테이블 생성
+        tableModel = new GradeTableModel(repository.getGradeStore());
+        gradeTable = new JTable(tableModel);
+        add(new JScrollPane(gradeTable), BorderLayout.CENTER);
+
+        // 하단 통계 패널 생성
+        JPanel statisticsPanel = new JPanel(new GridLayout(2, 1));
+        statisticsLabel = new JLabel();
+        histogramLabel = new JLabel();
+        statisticsPanel.add(statisticsLabel);
+        statisticsPanel.add(histogramLabel);
+        add(statisticsPanel, BorderLayout.SOUTH);
+
+        // 성적 행과 강의 목록이 바뀌면 테이블과 콤보박스의 해당 부분만 갱신합니다.
+        // 필터링 중에 성적이 삭제되면 저장소의 행 번호가 바뀌므로 (GradeStore.remove 참고) 필터를 다시 적용합니다.
+        repository.addRowListener((list, type, first, last) -> {
+            if (list == DataRepository.GRADES) {
+                if ((type == DataRepository.DELETED || type == DataRepository.ALL_CHANGED) && tableModel.getRows() != null) {
+                    refilter();
+                } else {
+                    tableModel.rowsChanged(type, first, last);
+                }
+            } else if (list == DataRepository.LECTURES) {
+                lecturesChanged(type, first, last);
+            }
+        });
+
+        // 성적이 바뀌면 통계를 다시 표시합니다. 연속된 변경은 한 번만 갱신합니다.
+        repository.addChangeListener(() -> {
+            if (!statisticsPending) {
+                statisticsPending = true;
+                SwingUtilities.invokeLater(() -> {
+                    statisticsPending = false;
+                    updateStatistics();
+                });
+            }
+        });
+
+        // 초기 데이터 로드
+        updateYearComboBox();
+    }
+
+    /*
+     * 보관 파일을 설정합니다. 보관된 기준년도를 기준년도 콤보박스에 추가합니다.
+     */
+    void setArchive(GradeArchive archive) {
+        this.archive = archive;
+        archiveKey = null;
+        archivePendingKey = null;
+        archiveRequest++;
+        updateYearComboBox();
+    }
+
+    /*
+     * 기준년도 콤보박스 업데이트
+     * 기준년도 목록을 콤보박스에 추가합니다.
+     * 저장소에 없는 보관된 연도는 뒤에 ARCHIVED를 붙여 추가합니다. ("전체"는 저장소의 연도만 뜻함)
+     */
+    void updateYearComboBox() {
+        yearComboBox.removeAllItems();
+        yearComboBox.addItem("전체"); // 기본값
+
+        for (String year : repository.getYears()) {
+            yearComboBox.addItem(year);
+        }
+        if (archive != null) {
+            for (String year : archive.getYears()) {
+                if (!repository.getYears().contains(year)) {
+                    yearComboBox.addItem(year + ARCHIVED);
+                }
+            }
+        }
+
+        if (yearComboBox.getItemCount() > 1) {
+            yearComboBox.setSelectedIndex(0); // 기본값 선택
+        }
+    }
+
+    /*
+     * 강의 목록의 변경을 기준년도, 강의명 콤보박스에 반영합니다.
+     * 추가된 강의는 새 기준년도와 (선택된 기준년도에 맞으면) 강의명 항목만 추가하고,
+     * 삭제된 경우에는 더 이상 없는 기준년도와 강의명 항목만 지웁니다.
+     */
+    private void lecturesChanged(int type, int first, int last) {
+        if (type == DataRepository.INSERTED) {
+            for (int i = first; i <= last; i++) {
+                Lecture lecture = repository.getLectures().get(i);
+                if (((DefaultComboBoxModel<String>) yearComboBox.getModel()).getIndexOf(lecture.getYear()) < 0) {
+                    yearComboBox.addItem(lecture.getYear());
+                }
+                String selectedYear = (String) yearComboBox.getSelectedItem();
+                if ("전체".equals(selectedYear) || lecture.getYear().equals(selectedYear)) {
+                    lectureComboBox.addItem(lecture.getName());
+                }
+            }
+        } else if (type == DataRepository.DELETED) {
+            for (int i = lectureComboBox.getItemCount() - 1; i > 0 && archivedYear() == null; i--) {
+                if (!repository.hasLecture(lectureComboBox.getItemAt(i))) {
+                    lectureComboBox.removeItemAt(i);
+                }
+            }
+            for (int i = yearComboBox.getItemCount() - 1; i > 0; i--) {
+                String year = yearComboBox.getItemAt(i);
+                if (!year.endsWith(ARCHIVED) && !repository.getYears().contains(year)) {
+                    yearComboBox.removeItemAt(i);
+                }
+            }
+        } else if (type == DataRepository.ALL_CHANGED) {
+            updateYearComboBox();
+        }
+    }
+
+    /*
+     * 강의명 콤보박스 업데이트
+     * 선택된 기준년도에 해당하는 강의명을 콤보박스에 추가합니다.
+     */
+    void updateLectureComboBox() {
+        lectureComboBox.removeAllItems();
+        lectureComboBox.addItem("전체"); // 기본값 추가
+
+        String selectedYear = (String) yearComboBox.getSelectedItem();
+        if (selectedYear == null) {
+            return; // 기준년도가 선택되지 않은 경우 필터링하지 않음
+        }
+
+        String archivedYear = archivedYear();
+        java.util.List<Lecture> candidates = archivedYear != null ? archive.getLectures(archivedYear)
+                : selectedYear.equals("전체") ? repository.getLectures() : repository.getLecturesByYear(selectedYear);
+        for (Lecture lecture : candidates) {
+            lectureComboBox.addItem(lecture.getName());
+        }
+
+    // 기본값 선택
+    if (lectureComboBox.getItemCount() > 0) {
+        lectureComboBox.setSelectedIndex(0); // "전체"를 선택
+    }
+
+    filterGrades(); // 강의 필터 업데이트 후 성적 필터링 실행
+}
+
+    /*
+     * 성적 필터링 메소드입니다.
+     * 기준년도와 강의명, 조건 입력란의 조건에 따라 성적을 필터링합니다.
+     * 조건에 맞는 저장소의 행 번호만 int 배열로 모아 테이블 모델에 전달합니다.
+     * 조건 입력란이 비어 있으면 (강의, 기준년도) 인덱스를 사용하고 (DataRepository.findGradeRows 참고),
+     * 조건이 있으면 콤보박스의 선택과 합쳐 GradeQuery로 조회합니다.
+     * 보관된 연도를 선택한 경우에는 보관 파일에서 읽은 성적에 조건을 적용합니다. (showArchive 참고)
+     */
+    private void filterGrades() {
+        String selectedYear = (String) yearComboBox.getSelectedItem();
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+    
+        // selectedLecture에 대한 null 체크 추가
+        if (selectedLecture == null || selectedYear == null) {
+            return; // 선택 값이 없으면 필터링하지 않음
+        }
+
+        // 측정 기록의 대상은 (기준년도, 강의명, 조건)이고 레코드 수는 표시한 행 수입니다.
+        Metrics.Operation operation = Metrics.start("grade.filter",
+                (selectedYear + " " + selectedLecture + " " + conditionField.getText()).trim());
+        GradeQuery query;
+        try {
+            query = GradeQuery.parse(conditionField.getText());
+        } catch (IllegalArgumentException e) {
+            operation.fail();
+            JOptionPane.showMessageDialog(this, "조건 오류: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        String archivedYear = archivedYear();
+        if (archivedYear != null) {
+            showArchive(archivedYear, selectedLecture.equals("전체") ? null : selectedLecture, query);
+            operation.end(gradeTable.getRowCount(), 0); // 보관 파일을 읽는 중이면 읽기를 시작하기까지의 시간입니다.
+            return;
+        }
+        archiveRequest++; // 읽는 중인 보관 연도는 표시하지 않음
+        archivePendingKey = null;
+        if (archiveStore != null) {
+            archiveStore = null;
+            archiveModel = null;
+            archiveKey = null;
+            gradeTable.setModel(tableModel);
+        }
+
+        if (!query.isEmpty()) {
+            if (!selectedYear.equals("전체")) {
+                query.where(GradeQuery.YEAR, "=", selectedYear);
+            }
+            if (!selectedLecture.equals("전체")) {
+                query.where(GradeQuery.LECTURE, "=", selectedLecture);
+            }
+            appliedQuery = query;
+            tableModel.showRows(query.run(repository.getGradeStore()));
+            updateStatistics();
+            operation.end(tableModel.getRowCount(), 0);
+            return;
+        }
+
+        appliedQuery = null;
+        appliedLecture = selectedLecture.equals("전체") ? null : selectedLecture;
+        appliedYear = selectedYear.equals("전체") ? null : selectedYear;
+        int[] rows = repository.findGradeRows(appliedLecture, appliedYear);
+        if (rows == null) {
+            tableModel.showAll();
+        } else {
+            tableModel.showRows(rows);
+        }
+        updateStatistics();
+        operation.end(tableModel.getRowCount(), 0);
+    }
+
+    /*
+     * 표시 중인 필터를 현재 저장소에 다시 적용합니다.
+     * 성적이 삭제되면 마지막 행이 빈 자리로 옮겨지므로 보관해 둔 행 번호로는 다른 성적이 표시될 수 있습니다.
+     * 조건 입력란은 다시 읽지 않고 마지막으로 적용한 조건을 사용합니다. (입력 중인 조건으로 오류 창을 띄우지 않음)
+     */
+    private void refilter() {
+        int[] rows = appliedQuery != null ? appliedQuery.run(repository.getGradeStore())
+                                          : repository.findGradeRows(appliedLecture, appliedYear);
+        if (rows == null) {
+            tableModel.showAll();
+        } else {
+            tableModel.showRows(rows);
+        }
+        updateStatistics();
+    }
+
+    /*
+     * 기준년도 콤보박스에서 보관된 연도를 선택했으면 그 연도를, 아니면 null을 반환합니다.
+     */
+    private String archivedYear() {
+        String selectedYear = (String) yearComboBox.getSelectedItem();
+        if (archive == null || selectedYear == null || !selectedYear.endsWith(ARCHIVED)) {
+            return null;
+        }
+        return selectedYear.substring(0, selectedYear.length() - ARCHIVED.length());
+    }
+
+    /*
+     * 보관된 연도의 성적을 표시하는 메소드입니다.
+     * 선택한 (기준년도, 강의명)의 페이지만 백그라운드에서 읽어 별도의 성적 저장소를 만들고 테이블에 표시합니다.
+     * 같은 선택에 조건만 바꾼 경우에는 다시 읽지 않고, 읽는 중이면 끝난 뒤 마지막 조건을 적용합니다.
+     * 읽는 동안 선택이 바뀌면 늦게 도착한 결과는 버립니다.
+     */
+    private void showArchive(String year, String lectureName, GradeQuery query) {
+        String key = DataRepository.key(year, lectureName == null ? "" : lectureName);
+        if (key.equals(archiveKey)) {
+            applyArchiveQuery(query);
+            return;
+        }
+        archivePendingQuery = query;
+        if (key.equals(archivePendingKey)) {
+            return;
+        }
+
+        archivePendingKey = key;
+        int request = ++archiveRequest;
+        GradeArchive source = archive;
+        statisticsLabel.setText(" 보관 파일에서 읽는 중...");
+        new SwingWorker<GradeStore, Void>() {
+            @Override
+            protected GradeStore doInBackground() throws IOException {
+                // 읽은 크기는 캐시에 없어 파일에서 읽은 페이지만 셉니다.
+                Metrics.Operation operation = Metrics.start("archive.read", year + " " + (lectureName == null ? "전체" : lectureName));
+                long pageReads = source.getPageReads();
+                try {
+                    GradeStore store = source.readGrades(year, lectureName);
+                    operation.end(store.size(), (source.getPageReads() - pageReads) * GradeArchive.PAGE_SIZE);
+                    return store;
+                } catch (IOException e) {
+                    operation.fail();
+                    throw e;
+                }
+            }
+
+            @Override
+            protected void done() {
+                if (request != archiveRequest) {
+                    return; // 그 사이에 다른 연도나 강의를 선택함
+                }
+                archivePendingKey = null;
+                try {
+                    archiveStore = get();
+                    archiveModel = new GradeTableModel(archiveStore);
+                    archiveKey = key;
+                    gradeTable.setModel(archiveModel);
+                    applyArchiveQuery(archivePendingQuery);
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(GradeQueryPanel.this, "보관 파일 읽기 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    private void applyArchiveQuery(GradeQuery query) {
+        if (query.isEmpty()) {
+            archiveModel.showAll();
+        } else {
+            archiveModel.showRows(query.run(archiveStore));
+        }
+        updateStatistics();
+    }
+
+    /*
+     * 현재 필터의 성적 통계를 표시하는 메소드입니다.
+     * 저장소가 유지하는 (강의, 기준년도)별 누적 통계를 합치므로 성적 목록을 다시 훑지 않습니다.
+     * 조건 입력란의 조건으로 조회한 경우에는 표시 중인 행의 총점으로 계산합니다.
+     */
+    private void updateStatistics() {
+        String selectedYear = (String) yearComboBox.getSelectedItem();
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+        if (selectedLecture == null || selectedYear == null) {
+            return;
+        }
+
+        GradeStatistics statistics;
+        GradeStore grades = archiveStore != null ? archiveStore : repository.getGradeStore();
+        int[] shownRows = (archiveStore != null ? archiveModel : tableModel).getRows();
+        if (shownRows == null || conditionField.getText().trim().isEmpty()) {
+            statistics = archiveStore != null ? archiveStore.statistics(null, null)
+                    : repository.getGradeStatistics(selectedLecture.equals("전체") ? null : selectedLecture,
+                                                    selectedYear.equals("전체") ? null : selectedYear);
+        } else {
+            statistics = new GradeStatistics();
+            for (int row : shownRows) {
+                if (row < grades.size()) {
+                    statistics.add(grades.getTotal(row));
+                }
+            }
+        }
+
+        statisticsLabel.setText(String.format(" 인원: %d   평균: %.2f   표준편차: %.2f   최저: %.2f   최고: %.2f",
+                statistics.getCount(), statistics.getMean(), statistics.getStandardDeviation(),
+                statistics.getMin(), statistics.getMax()));
+
+        StringBuilder histogram = new StringBuilder(" 분포:");
+        int[] buckets = statistics.getHistogram();
+        for (int i = 0; i < buckets.length; i++) {
+            histogram.append("  ").append(i * 10).append(i == buckets.length - 1 ? "~" : "~" + (i * 10 + 9))
+                     .append(": ").append(buckets[i]);
+        }
+        histogramLabel.setText(histogram.toString());
+    }
+
+    /*
+     * 성적 분석 메소드입니다.
+     * 성적 저장소의 스냅샷으로 백그라운드에서 강의별 백분위, 석차, 학점 기준점과
+     * 전체 석차를 병렬 계산한 뒤 현재 필터에 해당하는 결과를 대화상자로 표시합니다.
+     * 보관된 연도를 표시 중이면 보관 파일에서 읽은 성적을 분석합니다.
+     */
+    private void analyzeGrades() {
+        String selectedYear = archiveStore != null ? archivedYear() : (String) yearComboBox.getSelectedItem();
+        String selectedLecture = (String) lectureComboBox.getSelectedItem();
+        String year = selectedYear == null || selectedYear.equals("전체") ? null : selectedYear;
+        String lecture = selectedLecture == null || selectedLecture.equals("전체") ? null : selectedLecture;
+        GradeStore grades = archiveStore != null ? archiveStore : repository.snapshot().getGradeStore(); // 보관 연도는 바뀌지 않음
+
+        analyzeButton.setEnabled(false);
+        new SwingWorker<java.util.List<GradeAnalytics.Result>, Void>() {
+            private int[] rankByRow;
+
+            @Override
+            protected java.util.List<GradeAnalytics.Result> doInBackground() {
+                java.util.List<GradeAnalytics.Result> results = GradeAnalytics.analyze(grades);
+                rankByRow = GradeAnalytics.rankAll(grades);
+                return results;
+            }
+
+            @Override
+            protected void done() {
+                analyzeButton.setEnabled(true);
+                try {
+                    java.util.List<GradeAnalytics.Result> results = get();
+                    new AnalyticsDialog(GradeQueryPanel.this, grades, results, rankByRow,
+                            GradeAnalytics.filter(results, lecture, year)).setVisible(true);
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(GradeQueryPanel.this, "성적 분석 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /*
+     * 현재 필터의 성적을 CSV 파일로 내보내는 메소드입니다.
+     * 저장소의 스냅샷에서 표시 중인 행만 골라 백그라운드에서 파일에 바로 씁니다.
+     * 테이블 모델의 값을 옮겨 담지 않으므로 화면에 보이지 않는 행도 모두 내보냅니다.
+     */
+    private void exportGrades() {
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.setSelectedFile(new File("grades.csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path target = chooser.getSelectedFile().toPath();
+        int[] rows = (archiveStore != null ? archiveModel : tableModel).getRows();
+        GradeStore snapshot = archiveStore != null ? archiveStore // 보관 연도는 바뀌지 않음
+                : repository.snapshot().getGradeStore(); // 스냅샷의 행 번호는 테이블과 같음
+
+        exportButton.setEnabled(false);
+        new ExportWorker(this, "CSV 내보내기", (progress, cancelled) -> {
+            CsvExporter.writeGrades(target, snapshot, rows, progress, cancelled);
+            return 1;
+        }) {
+            @Override
+            protected void done() {
+                exportButton.setEnabled(true);
+                super.done();
+            }
+        }.execute();
+    }
+
+    /*
+     * 테이블에 성적 목록을 로드하는 메소드입니다.
+     * 필터 없이 전체 성적 목록을 표시합니다. 
+     */
+    public void loadGradesToTable() {
+        Metrics.Operation operation = Metrics.start("table.query");
+        tableModel.showAll();
+        operation.end(tableModel.getRowCount(), 0);
+    }
+}
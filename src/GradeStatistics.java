@@ -0,0 +1,102 @@
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * 성적 통계를 누적 값으로 유지하는 클래스입니다.
+ * 성적이 추가, 수정, 삭제될 때마다 해당 총점만 더하거나 빼므로
+ * 통계를 구할 때 성적 목록을 다시 훑지 않습니다.
+ *
+ * 누적 값: 인원, 총점 합계, 총점 제곱 합계, 총점별 인원, 평균 점수 구간별 인원
+ * 최저/최고는 총점별 인원(정렬된 맵)에서 구하므로 삭제 후에도 정확합니다.
+ * 평균 관련 값은 Grade의 평균과 같은 기준(총점 / 3)으로 반환합니다.
+ */
+class GradeStatistics {
+    static final int BUCKET_COUNT = 10; // 평균 점수 10점 단위 구간 (90점 이상은 마지막 구간)
+
+    private int count;
+    private long sum;
+    private long sumOfSquares;
+    private final TreeMap<Integer, Integer> totals = new TreeMap<>();
+    private final int[] histogram = new int[BUCKET_COUNT];
+
+    /*
+     * 평균 점수가 속하는 구간 번호를 반환합니다.
+     */
+    static int bucketOf(int total) {
+        int bucket = (int) Math.floor(total / 3.0 / 10);
+        return Math.max(0, Math.min(BUCKET_COUNT - 1, bucket));
+    }
+
+    public void add(int total) {
+        count++;
+        sum += total;
+        sumOfSquares += (long) total * total;
+        totals.merge(total, 1, Integer::sum);
+        histogram[bucketOf(total)]++;
+    }
+
+    public void remove(int total) {
+        count--;
+        sum -= total;
+        sumOfSquares -= (long) total * total;
+        totals.computeIfPresent(total, (k, n) -> n == 1 ? null : n - 1);
+        histogram[bucketOf(total)]--;
+    }
+
+    /*
+     * other의 누적 값을 더합니다. 여러 강의의 통계를 합칠 때 사용합니다.
+     */
+    public void addAll(GradeStatistics other) {
+        count += other.count;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+        for (Map.Entry<Integer, Integer> entry : other.totals.entrySet()) {
+            totals.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /*
+     * 평균 점수의 평균을 반환합니다. 성적이 없으면 0을 반환합니다.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : sum / 3.0 / count;
+    }
+
+    /*
+     * 평균 점수의 (모)표준편차를 반환합니다.
+     */
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0;
+        }
+        double mean = (double) sum / count;
+        double variance = Math.max(0, (double) sumOfSquares / count - mean * mean);
+        return Math.sqrt(variance) / 3.0;
+    }
+
+    public double getMin() {
+        return count == 0 ? 0 : totals.firstKey() / 3.0;
+    }
+
+    public double getMax() {
+        return count == 0 ? 0 : totals.lastKey() / 3.0;
+    }
+
+    /*
+     * 평균 점수 구간별 인원을 반환합니다. (복사본)
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+}
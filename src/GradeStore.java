@@ -0,0 +1,506 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/*
+ * 성적을 열(column) 단위의 int 배열로 보관하는 저장소입니다.
+ * 성적 하나마다 객체를 만들지 않고 행 번호로 각 열을 읽으므로
+ * 메모리를 적게 쓰고 통계 계산 시 배열을 순서대로 훑을 수 있습니다.
+ * 강의명, 기준년도, 학생 이름은 SymbolTable의 번호로 저장합니다.
+ * 행 하나가 필요할 때는 Grade 뷰 객체를 만들어 사용합니다.
+ *
+ * 인덱스 목록
+ * - (강의 번호, 기준년도 번호) -> 분할(행 목록, 누적 통계)
+ *   각 행은 분할의 행 목록에서 자신의 위치(partitionSlots)를 기억합니다.
+ * - 학생 번호 -> 행 연결 목록 (studentHeads/studentTails와 nextOfStudent/previousOfStudent 열)
+ *   (강의명, 학생 이름) 조회는 학생의 행 목록을 따라가며 강의 번호를 비교합니다.
+ *
+ * 삭제는 지울 행을 인덱스로 모은 뒤 마지막 행을 빈 자리로 옮기는 방식이므로
+ * 지우는 행 수(k)에만 비례하며, 옮겨진 행의 번호와 표시 순서가 바뀝니다.
+ * 모든 메소드는 이벤트 디스패치 스레드(수정하는 스레드)에서 호출해야 하며,
+ * 다른 스레드에서는 snapshot()으로 만든 읽기 전용 스냅샷을 사용합니다.
+ * 열은 조각 단위 copy-on-write(IntColumn)이므로 스냅샷을 만들어도 행을 복사하지 않습니다.
+ */
+class GradeStore {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final SymbolTable symbols;
+    private int size;
+    private final IntColumn ids;
+    private final IntColumn lectures;
+    private final IntColumn years;
+    private final IntColumn students;
+    private final IntColumn midterms;
+    private final IntColumn finalExams;
+    private final IntColumn assignments;
+    private final IntColumn totals;
+    private final boolean indexed; // 조회 인덱스 유지 여부 (스냅샷과 복사본은 false)
+
+    private int[] partitionSlots;
+    private int[] nextOfStudent;
+    private int[] previousOfStudent;
+    private int[] studentHeads = new int[0]; // 학생 번호 -> 첫 행 (없으면 -1)
+    private int[] studentTails = new int[0]; // 학생 번호 -> 마지막 행 (없으면 -1)
+
+    private final Map<Long, Partition> partitions = new HashMap<>();
+
+    /*
+     * (강의, 기준년도) 하나에 속한 행 목록과 누적 통계입니다.
+     */
+    private static class Partition {
+        final IntList rows = new IntList();
+        final GradeStatistics statistics = new GradeStatistics();
+    }
+
+    /*
+     * symbols는 저장소 전체가 공유하는 문자열 사전입니다.
+     */
+    public GradeStore(SymbolTable symbols) {
+        this(symbols, new IntColumn(), new IntColumn(), new IntColumn(), new IntColumn(),
+             new IntColumn(), new IntColumn(), new IntColumn(), new IntColumn(), true);
+    }
+
+    private GradeStore(SymbolTable symbols, IntColumn ids, IntColumn lectures, IntColumn years, IntColumn students,
+                       IntColumn midterms, IntColumn finalExams, IntColumn assignments, IntColumn totals, boolean indexed) {
+        this.symbols = symbols;
+        this.ids = ids;
+        this.lectures = lectures;
+        this.years = years;
+        this.students = students;
+        this.midterms = midterms;
+        this.finalExams = finalExams;
+        this.assignments = assignments;
+        this.totals = totals;
+        this.indexed = indexed;
+        int indexCapacity = indexed ? INITIAL_CAPACITY : 0;
+        partitionSlots = new int[indexCapacity];
+        nextOfStudent = new int[indexCapacity];
+        previousOfStudent = new int[indexCapacity];
+    }
+
+    /*
+     * 두 번호를 합쳐 인덱스 키를 만듭니다.
+     */
+    private static long key(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /*
+     * 모든 성적과 인덱스를 비웁니다. (문자열 번호는 유지)
+     */
+    public void clear() {
+        size = 0;
+        partitions.clear();
+        Arrays.fill(studentHeads, -1);
+        Arrays.fill(studentTails, -1);
+    }
+
+    /*
+     * 성적을 추가하고 추가된 행 번호를 반환합니다.
+     */
+    public int add(int id, String lectureName, String year, String studentName, int midterm, int finalExam, int assignment) {
+        if (size == partitionSlots.length) {
+            grow();
+        }
+        int row = size++;
+        ids.set(row, id);
+        lectures.set(row, symbols.code(lectureName));
+        years.set(row, symbols.code(year));
+        students.set(row, symbols.code(studentName));
+        midterms.set(row, midterm);
+        finalExams.set(row, finalExam);
+        assignments.set(row, assignment);
+        totals.set(row, midterm + finalExam + assignment);
+
+        Partition partition = partitions.computeIfAbsent(key(lectures.get(row), years.get(row)), k -> new Partition());
+        partitionSlots[row] = partition.rows.size();
+        partition.rows.add(row);
+        partition.statistics.add(totals.get(row));
+        linkStudent(row);
+        return row;
+    }
+
+    private void grow() {
+        int capacity = partitionSlots.length * 2;
+        partitionSlots = Arrays.copyOf(partitionSlots, capacity);
+        nextOfStudent = Arrays.copyOf(nextOfStudent, capacity);
+        previousOfStudent = Arrays.copyOf(previousOfStudent, capacity);
+    }
+
+    /*
+     * 행을 학생의 행 목록 끝에 연결합니다.
+     */
+    private void linkStudent(int row) {
+        int student = students.get(row);
+        if (student >= studentHeads.length) {
+            int length = Math.max(student + 1, studentHeads.length * 2);
+            int old = studentHeads.length;
+            studentHeads = Arrays.copyOf(studentHeads, length);
+            studentTails = Arrays.copyOf(studentTails, length);
+            Arrays.fill(studentHeads, old, length, -1);
+            Arrays.fill(studentTails, old, length, -1);
+        }
+        int tail = studentTails[student];
+        previousOfStudent[row] = tail;
+        nextOfStudent[row] = -1;
+        if (tail < 0) {
+            studentHeads[student] = row;
+        } else {
+            nextOfStudent[tail] = row;
+        }
+        studentTails[student] = row;
+    }
+
+    /*
+     * 행을 학생의 행 목록에서 떼어냅니다.
+     */
+    private void unlinkStudent(int row) {
+        int previous = previousOfStudent[row];
+        int next = nextOfStudent[row];
+        if (previous < 0) {
+            studentHeads[students.get(row)] = next;
+        } else {
+            nextOfStudent[previous] = next;
+        }
+        if (next < 0) {
+            studentTails[students.get(row)] = previous;
+        } else {
+            previousOfStudent[next] = previous;
+        }
+    }
+
+    /*
+     * 행의 점수를 바꾸고 총점과 누적 통계를 다시 계산합니다.
+     */
+    public void setScores(int row, int midterm, int finalExam, int assignment) {
+        GradeStatistics statistics = partitions.get(key(lectures.get(row), years.get(row))).statistics;
+        statistics.remove(totals.get(row));
+        statistics.add(midterm + finalExam + assignment);
+        midterms.set(row, midterm);
+        finalExams.set(row, finalExam);
+        assignments.set(row, assignment);
+        totals.set(row, midterm + finalExam + assignment);
+    }
+
+    /*
+     * (강의명, 학생 이름)에 해당하는 행 번호를 찾습니다. 없으면 -1을 반환합니다.
+     * 같은 키가 여러 개면 학생의 행 목록에서 앞에 있는 행을 반환합니다.
+     */
+    public int find(String lectureName, String studentName) {
+        int lecture = symbols.find(lectureName);
+        int student = symbols.find(studentName);
+        if (lecture < 0 || student < 0) {
+            return -1;
+        }
+        if (!indexed) {
+            IntList rows = scan(lecture, -1, student);
+            return rows.isEmpty() ? -1 : rows.get(0);
+        }
+        if (student >= studentHeads.length) {
+            return -1;
+        }
+        for (int row = studentHeads[student]; row >= 0; row = nextOfStudent[row]) {
+            if (lectures.get(row) == lecture) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * (강의명, 기준년도)에 해당하는 행 번호 배열을 추가된 순서대로 반환합니다.
+     */
+    public int[] rowsOf(String lectureName, String year) {
+        int lecture = symbols.find(lectureName);
+        int yearCode = symbols.find(year);
+        if (lecture < 0 || yearCode < 0) {
+            return new int[0];
+        }
+        if (!indexed) {
+            return scan(lecture, yearCode, -1).toArray();
+        }
+        Partition partition = partitions.get(key(lecture, yearCode));
+        return partition == null ? new int[0] : partition.rows.toArray();
+    }
+
+    /*
+     * 강의 번호가 lecture를 만족하고 기준년도 번호가 yearCode(-1이면 모든 기준년도)인 분할의 행 번호를 모읍니다.
+     * 분할 단위로 모으므로 행 번호 순서가 아닙니다. 인덱스가 없는 스냅샷이면 null을 반환합니다. (GradeQuery 참고)
+     */
+    public IntList rowsOfPartitions(IntPredicate lecture, int yearCode) {
+        if (!indexed) {
+            return null;
+        }
+        IntList rows = new IntList();
+        for (Map.Entry<Long, Partition> entry : partitions.entrySet()) {
+            long partition = entry.getKey();
+            if ((yearCode < 0 || (int) partition == yearCode) && lecture.test((int) (partition >>> 32))) {
+                IntList partitionRows = entry.getValue().rows;
+                for (int i = 0; i < partitionRows.size(); i++) {
+                    rows.add(partitionRows.get(i));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /*
+     * 학생 이름의 행 번호 배열을 학생의 행 목록 순서대로 반환합니다.
+     */
+    public int[] rowsOfStudent(String studentName) {
+        int code = symbols.find(studentName);
+        if (code >= 0 && !indexed) {
+            return scan(-1, -1, code).toArray();
+        }
+        if (code < 0 || code >= studentHeads.length) {
+            return new int[0];
+        }
+        IntList rows = new IntList();
+        for (int row = studentHeads[code]; row >= 0; row = nextOfStudent[row]) {
+            rows.add(row);
+        }
+        return rows.toArray();
+    }
+
+    /*
+     * 인덱스가 없는 스냅샷에서 강의, 기준년도, 학생 번호가 맞는 행을 열을 훑어 찾습니다. -1은 조건 없음을 뜻합니다.
+     */
+    private IntList scan(int lecture, int yearCode, int student) {
+        IntList rows = new IntList();
+        for (int row = 0; row < size; row++) {
+            if ((lecture < 0 || lectures.get(row) == lecture) && (yearCode < 0 || years.get(row) == yearCode)
+                    && (student < 0 || students.get(row) == student)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /*
+     * 기준년도가 year인 행 번호 배열을 반환합니다. 기준년도 열을 순서대로 훑습니다.
+     */
+    public int[] rowsOfYear(String year) {
+        int yearCode = symbols.find(year);
+        if (yearCode < 0) {
+            return new int[0];
+        }
+        IntList rows = new IntList();
+        for (int row = 0; row < size; row++) {
+            if (years.get(row) == yearCode) {
+                rows.add(row);
+            }
+        }
+        return rows.toArray();
+    }
+
+    // ===== 삭제 =====
+
+    /*
+     * 강의의 성적을 모두 삭제하고 삭제한 개수를 반환합니다.
+     * 강의의 분할에 속한 행만 모아서 지웁니다.
+     */
+    public int removeLecture(String lectureName) {
+        int code = symbols.find(lectureName);
+        if (code < 0) {
+            return 0;
+        }
+        IntList rows = new IntList();
+        for (Map.Entry<Long, Partition> entry : partitions.entrySet()) {
+            if ((int) (entry.getKey() >>> 32) == code) {
+                IntList partitionRows = entry.getValue().rows;
+                for (int i = 0; i < partitionRows.size(); i++) {
+                    rows.add(partitionRows.get(i));
+                }
+            }
+        }
+        return removeRows(rows);
+    }
+
+    /*
+     * 학생 이름의 성적을 모두 삭제하고 삭제한 개수를 반환합니다.
+     * 학생의 행 목록에 연결된 행만 모아서 지웁니다.
+     */
+    public int removeStudent(String studentName) {
+        int code = symbols.find(studentName);
+        if (code < 0 || code >= studentHeads.length) {
+            return 0;
+        }
+        IntList rows = new IntList();
+        for (int row = studentHeads[code]; row >= 0; row = nextOfStudent[row]) {
+            rows.add(row);
+        }
+        return removeRows(rows);
+    }
+
+    /*
+     * 행들을 한꺼번에 지우고 지운 개수를 반환합니다.
+     * 큰 행 번호부터 지우므로 빈 자리로 옮겨지는 마지막 행은 아직 지울 행이 아닙니다.
+     */
+    private int removeRows(IntList rows) {
+        int[] sorted = rows.toArray();
+        Arrays.sort(sorted);
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            removeRow(sorted[i]);
+        }
+        return sorted.length;
+    }
+
+    /*
+     * 행 하나를 지우고 마지막 행을 그 자리로 옮깁니다.
+     */
+    private void removeRow(int row) {
+        long partitionKey = key(lectures.get(row), years.get(row));
+        Partition partition = partitions.get(partitionKey);
+        int moved = partition.rows.swapRemove(partitionSlots[row]);
+        if (moved >= 0) {
+            partitionSlots[moved] = partitionSlots[row];
+        }
+        partition.statistics.remove(totals.get(row));
+        if (partition.rows.isEmpty()) {
+            partitions.remove(partitionKey);
+        }
+        unlinkStudent(row);
+
+        int last = --size;
+        if (row == last) {
+            return;
+        }
+        ids.set(row, ids.get(last));
+        lectures.set(row, lectures.get(last));
+        years.set(row, years.get(last));
+        students.set(row, students.get(last));
+        midterms.set(row, midterms.get(last));
+        finalExams.set(row, finalExams.get(last));
+        assignments.set(row, assignments.get(last));
+        totals.set(row, totals.get(last));
+        partitionSlots[row] = partitionSlots[last];
+        nextOfStudent[row] = nextOfStudent[last];
+        previousOfStudent[row] = previousOfStudent[last];
+
+        // 옮겨진 행을 가리키던 인덱스를 새 행 번호로 바꿉니다.
+        partitions.get(key(lectures.get(row), years.get(row))).rows.set(partitionSlots[row], row);
+        if (previousOfStudent[row] < 0) {
+            studentHeads[students.get(row)] = row;
+        } else {
+            nextOfStudent[previousOfStudent[row]] = row;
+        }
+        if (nextOfStudent[row] < 0) {
+            studentTails[students.get(row)] = row;
+        } else {
+            previousOfStudent[nextOfStudent[row]] = row;
+        }
+    }
+
+    // ===== 통계 =====
+
+    /*
+     * (강의명, 기준년도)의 누적 통계를 반환합니다.
+     * year나 lectureName이 null이면 전체를 뜻합니다.
+     * 행을 훑지 않고 (강의, 기준년도)별 누적 통계만 합칩니다. (스냅샷은 행을 훑어 계산)
+     */
+    public GradeStatistics statistics(String lectureName, String year) {
+        int lecture = lectureName == null ? -1 : symbols.find(lectureName);
+        int yearCode = year == null ? -1 : symbols.find(year);
+        GradeStatistics result = new GradeStatistics();
+        if ((lectureName != null && lecture < 0) || (year != null && yearCode < 0)) {
+            return result;
+        }
+        if (!indexed) {
+            IntList rows = scan(lecture, yearCode, -1);
+            for (int i = 0; i < rows.size(); i++) {
+                result.add(totals.get(rows.get(i)));
+            }
+            return result;
+        }
+        if (lectureName != null && year != null) {
+            Partition partition = partitions.get(key(lecture, yearCode));
+            if (partition != null) {
+                result.addAll(partition.statistics);
+            }
+            return result;
+        }
+        for (Map.Entry<Long, Partition> entry : partitions.entrySet()) {
+            long partition = entry.getKey();
+            if ((lectureName == null || (int) (partition >>> 32) == lecture)
+                    && (year == null || (int) partition == yearCode)) {
+                result.addAll(entry.getValue().statistics);
+            }
+        }
+        return result;
+    }
+
+    // ===== 열 읽기 =====
+
+    public int getId(int row) { return ids.get(row); }
+    public int getLectureCode(int row) { return lectures.get(row); }
+    public int getYearCode(int row) { return years.get(row); }
+    public int getStudentCode(int row) { return students.get(row); }
+    public String getLectureName(int row) { return symbols.symbol(lectures.get(row)); }
+    public String getYear(int row) { return symbols.symbol(years.get(row)); }
+    public String getStudentName(int row) { return symbols.symbol(students.get(row)); }
+    public int getMidterm(int row) { return midterms.get(row); }
+    public int getFinalExam(int row) { return finalExams.get(row); }
+    public int getAssignment(int row) { return assignments.get(row); }
+    public int getTotal(int row) { return totals.get(row); }
+
+    /*
+     * 총점의 평균(소수점 둘째 자리 반올림)을 반환합니다.
+     */
+    public double getAverage(int row) {
+        return Math.round((totals.get(row) / 3.0) * 100) / 100.0;
+    }
+
+    /*
+     * 행 하나를 Grade 뷰로 반환합니다.
+     */
+    public Grade get(int row) {
+        return new Grade(this, row);
+    }
+
+    /*
+     * 전체 성적을 Grade 목록으로 보는 읽기 전용 뷰를 반환합니다.
+     * 항목을 꺼낼 때마다 뷰 객체를 만듭니다.
+     */
+    public List<Grade> asList() {
+        return new AbstractList<Grade>() {
+            @Override
+            public Grade get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return new Grade(GradeStore.this, index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /*
+     * 현재 성적의 읽기 전용 스냅샷을 만듭니다. 백그라운드 저장, 내보내기, 분석과 HTTP 조회에 사용합니다.
+     * 열 조각만 공유하므로 성적 수가 아니라 조각 수에 비례하는 시간에 만들어지며,
+     * 이후 이 저장소를 수정해도 스냅샷의 내용은 바뀌지 않습니다.
+     * 스냅샷은 문자열 번호를 공유하고 조회 인덱스가 없으므로 조회(find, rowsOf, 통계)는 열을 훑습니다.
+     * 수정하는 스레드에서 만들어야 하며, 만든 뒤에는 어느 스레드에서든 읽을 수 있습니다.
+     */
+    public GradeStore snapshot() {
+        GradeStore snapshot = new GradeStore(symbols, ids.snapshot(size), lectures.snapshot(size), years.snapshot(size),
+                students.snapshot(size), midterms.snapshot(size), finalExams.snapshot(size),
+                assignments.snapshot(size), totals.snapshot(size), false);
+        snapshot.size = size;
+        return snapshot;
+    }
+}
@@ -0,0 +1,126 @@
+import javax.swing.table.AbstractTableModel;
+
+/*
+ * 성적 테이블 모델 클래스입니다.
+ * 성적 열 저장소(store)를 직접 읽어 표시하며,
+ * 필터링된 경우에는 저장소의 행 번호 배열(rows)만 보관합니다.
+ * rows가 null이면 저장소 전체를 그대로 표시합니다.
+ */
+class GradeTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"ID", "강의명", "기준년도", "학생명", "중간고사", "기말고사", "과제", "총점", "평균"};
+    private final GradeStore store;
+    private int[] rows;
+
+    public GradeTableModel(GradeStore store) {
+        this.store = store;
+    }
+
+    /*
+     * 저장소 전체를 표시하도록 설정합니다.
+     */
+    public void showAll() {
+        this.rows = null;
+        fireTableDataChanged();
+    }
+
+    /*
+     * 저장소의 행 중 rows에 해당하는 행만 표시하도록 설정합니다.
+     */
+    public void showRows(int[] rows) {
+        this.rows = rows;
+        fireTableDataChanged();
+    }
+
+    /*
+     * 아무것도 표시하지 않도록 설정합니다.
+     */
+    public void showNone() {
+        showRows(new int[0]);
+    }
+
+    /*
+     * 저장소의 성적 행 변경(DataRepository.RowListener)을 테이블 이벤트로 알립니다.
+     * 전체를 표시 중이면 저장소의 행 번호가 곧 화면의 행 번호입니다.
+     * 필터링된 경우 추가된 행은 표시하지 않고, 수정된 행은 화면의 행을 찾지 않고 표시 중인 행 전체를 다시 그립니다.
+     * 삭제되면 다른 행이 빈 자리로 옮겨져 rows가 맞지 않게 되므로, 필터를 쓰는 쪽에서 showRows()로 다시 필터링해야 합니다.
+     */
+    public void rowsChanged(int type, int first, int last) {
+        if (rows != null) {
+            if (type == DataRepository.UPDATED && rows.length > 0) {
+                fireTableRowsUpdated(0, rows.length - 1);
+            } else if (type == DataRepository.DELETED || type == DataRepository.ALL_CHANGED) {
+                fireTableDataChanged(); // 행 번호가 바뀌었을 수 있음 (storeRow 참고)
+            }
+            return;
+        }
+        switch (type) {
+            case DataRepository.INSERTED: fireTableRowsInserted(first, last); break;
+            case DataRepository.UPDATED: fireTableRowsUpdated(first, last); break;
+            case DataRepository.DELETED: fireTableRowsDeleted(first, last); break;
+            default: fireTableDataChanged();
+        }
+    }
+
+    /*
+     * 표시 중인 저장소의 행 번호 배열을 반환합니다. 전체를 표시 중이면 null을 반환합니다.
+     */
+    public int[] getRows() {
+        return rows;
+    }
+
+    /*
+     * 화면의 행에 해당하는 저장소의 행 번호를 반환합니다.
+     * 저장소가 바뀌어 행이 유효하지 않으면 -1을 반환합니다.
+     */
+    private int storeRow(int row) {
+        int index = rows == null ? row : rows[row];
+        return index < store.size() ? index : -1;
+    }
+
+    /*
+     * 화면의 행에 해당하는 성적을 반환합니다.
+     * 저장소가 바뀌어 행이 유효하지 않으면 null을 반환합니다.
+     */
+    public Grade getGradeAt(int row) {
+        int index = storeRow(row);
+        return index < 0 ? null : store.get(index);
+    }
+
+    @Override
+    public int getRowCount() { return rows == null ? store.size() : rows.length; }
+
+    @Override
+    public int getColumnCount() { return COLUMNS.length; }
+
+    @Override
+    public String getColumnName(int column) { return COLUMNS[column]; }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+            case 1: case 2: case 3: return String.class;
+            case 8: return Double.class;
+            default: return Integer.class;
+        }
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int index = storeRow(row);
+        if (index < 0) {
+            return null;
+        }
+        switch (column) {
+            case 0: return store.getId(index);
+            case 1: return store.getLectureName(index);
+            case 2: return store.getYear(index);
+            case 3: return store.getStudentName(index);
+            case 4: return store.getMidterm(index);
+            case 5: return store.getFinalExam(index);
+            case 6: return store.getAssignment(index);
+            case 7: return store.getTotal(index);
+            case 8: return store.getAverage(index);
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+import java.util.Arrays;
+
+/*
+ * 고정 크기 조각(chunk)으로 나눈 int 열입니다. GradeStore의 각 열을 보관합니다.
+ * snapshot()은 조각 배열만 복사하므로 행 수가 아니라 조각 수에 비례하며,
+ * 스냅샷과 공유하는 조각은 처음 수정할 때 그 조각만 복사합니다. (copy-on-write)
+ * 스냅샷 크기 이후의 행은 스냅샷이 읽지 않으므로 복사하지 않고 바로 씁니다.
+ *
+ * 수정은 한 스레드에서만 해야 하며, 스냅샷은 변경되지 않으므로 어느 스레드에서든 읽을 수 있습니다.
+ */
+class IntColumn {
+    static final int CHUNK_BITS = 12;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS; // 조각 하나의 행 수
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private int[][] chunks;
+    private boolean[] owned; // 조각을 스냅샷과 공유하지 않는지 여부
+    private int sharedRows;  // 이보다 작은 행은 스냅샷과 공유할 수 있음
+    private final boolean frozen;
+
+    public IntColumn() {
+        this(new int[0][], new boolean[0], 0, false);
+    }
+
+    private IntColumn(int[][] chunks, boolean[] owned, int sharedRows, boolean frozen) {
+        this.chunks = chunks;
+        this.owned = owned;
+        this.sharedRows = sharedRows;
+        this.frozen = frozen;
+    }
+
+    public int get(int row) {
+        return chunks[row >>> CHUNK_BITS][row & CHUNK_MASK];
+    }
+
+    public void set(int row, int value) {
+        if (frozen) {
+            throw new UnsupportedOperationException("스냅샷은 수정할 수 없습니다.");
+        }
+        int chunk = row >>> CHUNK_BITS;
+        if (chunk >= chunks.length) {
+            int length = Math.max(chunk + 1, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, length);
+            owned = Arrays.copyOf(owned, length);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new int[CHUNK_SIZE];
+            owned[chunk] = true;
+        } else if (!owned[chunk] && row < sharedRows) {
+            chunks[chunk] = chunks[chunk].clone();
+            owned[chunk] = true;
+        }
+        chunks[chunk][row & CHUNK_MASK] = value;
+    }
+
+    /*
+     * 앞의 rows개 행을 공유하는 읽기 전용 스냅샷을 만듭니다. O(조각 수)
+     */
+    public IntColumn snapshot(int rows) {
+        int count = (rows + CHUNK_MASK) >>> CHUNK_BITS;
+        Arrays.fill(owned, 0, count, false);
+        sharedRows = Math.max(sharedRows, rows);
+        return new IntColumn(Arrays.copyOf(chunks, count), new boolean[count], rows, true);
+    }
+}
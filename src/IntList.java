@@ -0,0 +1,61 @@
+import java.util.Arrays;
+
+/*
+ * int 값을 박싱 없이 저장하는 가변 길이 목록입니다.
+ */
+class IntList {
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this(8);
+    }
+
+    public IntList(int capacity) {
+        values = new int[Math.max(1, capacity)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    public int get(int index) {
+        return values[index];
+    }
+
+    public void set(int index, int value) {
+        values[index] = value;
+    }
+
+    /*
+     * index 위치의 값을 마지막 값으로 덮어쓰고 길이를 줄입니다. (순서는 유지되지 않음)
+     * 자리를 옮긴 값(원래 마지막 값)을 반환하며, 마지막 값을 지운 경우 -1을 반환합니다.
+     */
+    public int swapRemove(int index) {
+        int last = --size;
+        if (index == last) {
+            return -1;
+        }
+        values[index] = values[last];
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,168 @@
+import javax.swing.*;
+import java.awt.*;
+
+/*
+ * 강의 관리 패널 클래스입니다.
+ * 강의 목록을 표시하고 강의를 추가하거나 삭제할 수 있습니다.
+ * 
+ */
+class LecturePanel extends JPanel {
+    private JTable lectureTable;
+    private LectureTableModel tableModel;
+    private JPanel buttonPanel; // 추가, 삭제 버튼
+    private DataRepository repository;
+
+    /*
+     * 강의 관리 패널의 생성자입니다.
+     * 강의 데이터를 담은 저장소를 전달받습니다.
+     * 다른 탭의 갱신은 저장소의 행 변경 알림으로 이루어지므로 메인 애플리케이션은 필요하지 않습니다.
+     */
+    public LecturePanel(DataRepository repository) {
+        this.repository = repository;
+        setLayout(new BorderLayout());
+
+        // 테이블 생성
+        tableModel = new LectureTableModel(repository.getLectures());
+        lectureTable = new JTable(tableModel);
+        add(new JScrollPane(lectureTable), BorderLayout.CENTER);
+
+        // 강의 목록이 바뀌면 바뀐 행만 다시 그립니다.
+        repository.addRowListener((list, type, first, last) -> {
+            if (list == DataRepository.LECTURES) {
+                tableModel.rowsChanged(type, first, last);
+            }
+        });
+
+        // 버튼 패널
+        buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton addButton = new JButton("강의 추가");
+        JButton deleteButton = new JButton("강의 삭제");
+        buttonPanel.add(addButton);
+        buttonPanel.add(deleteButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        // 초기 데이터 로드
+        loadLecturesToTable();
+
+        // 버튼 이벤트
+        addButton.addActionListener(e -> addLecture());
+        deleteButton.addActionListener(e -> deleteLecture());
+    }
+
+    /*
+     * 강의를 추가하는 메소드입니다.
+     * 강의명, 기준년도, 시간을 입력받아 강의를 추가합니다.
+     */
+    private void addLecture() {
+        // JDialog 생성
+        JDialog dialog = new JDialog((Frame) null, "강의 추가", true);
+        dialog.setLayout(new GridBagLayout());
+
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5); // 컴포넌트 간의 여백 설정
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+    
+        // 기준년도 필드
+        gbc.gridx = 0; gbc.gridy = 0;
+        dialog.add(new JLabel("기준년도:"), gbc);
+        JTextField yearField = new JTextField(10);
+        gbc.gridx = 1; gbc.gridy = 0;
+        dialog.add(yearField, gbc);
+    
+        // 강의명 필드
+        gbc.gridx = 0; gbc.gridy = 1;
+        dialog.add(new JLabel("강의명:"), gbc);
+        JTextField nameField = new JTextField();
+        gbc.gridx = 1; gbc.gridy = 1;
+        dialog.add(nameField, gbc);
+    
+        // 시간 필드
+        gbc.gridx = 0; gbc.gridy = 2;
+        dialog.add(new JLabel("시간 (예: 1교시):"), gbc);
+        JTextField timeField = new JTextField();
+        gbc.gridx = 1; gbc.gridy = 2;
+        dialog.add(timeField, gbc);
+    
+        // 버튼 패널
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton addButton = new JButton("추가");
+        JButton cancelButton = new JButton("취소");
+        buttonPanel.add(addButton);
+        buttonPanel.add(cancelButton);
+    
+        gbc.gridx = 0; gbc.gridy = 3; gbc.gridwidth = 2;
+        dialog.add(buttonPanel, gbc);
+    
+        // 버튼 동작
+        addButton.addActionListener(e -> {
+            String year = yearField.getText().trim();
+            String name = nameField.getText().trim();
+            String time = timeField.getText().trim();
+    
+            if (year.isEmpty() || name.isEmpty() || time.isEmpty()) {
+                JOptionPane.showMessageDialog(dialog, "모든 필드를 입력해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                // 강의명 중복 체크
+                if (repository.hasLecture(name)) {
+                    JOptionPane.showMessageDialog(dialog, "이미 존재하는 강의명입니다.", "오류", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+    
+                int id = repository.getLectures().size() + 1;
+                Lecture newLecture = new Lecture(id, repository.intern(year), repository.intern(name), repository.intern(time));
+                repository.addLecture(newLecture); // 테이블과 다른 탭의 콤보박스는 행 변경 알림으로 갱신됩니다.
+    
+                JOptionPane.showMessageDialog(dialog, "강의가 추가되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+                dialog.dispose();
+            }
+        });
+    
+        cancelButton.addActionListener(e -> dialog.dispose());
+    
+        dialog.pack();
+        dialog.setLocationRelativeTo(null);
+        dialog.setVisible(true);
+    }
+    
+    /*
+     * 강의를 삭제하는 메소드입니다.
+     * 테이블에서 선택된 강의를 삭제합니다.
+     */
+    private void deleteLecture() {
+        int selectedRow = lectureTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "삭제할 강의를 선택하세요.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        String lectureName = tableModel.getLectureAt(selectedRow).getName();
+        Metrics.Operation operation = Metrics.start("lecture.delete", lectureName);
+        int before = repository.getLectures().size() + repository.getStudents().size() + repository.getGrades().size();
+        repository.removeLecture(lectureName); // 테이블과 다른 탭의 콤보박스는 행 변경 알림으로 갱신됩니다.
+        operation.end(before - repository.getLectures().size() - repository.getStudents().size()
+                - repository.getGrades().size(), 0);
+
+        JOptionPane.showMessageDialog(this, "강의와 관련된 모든 데이터가 삭제되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /*
+     * 테이블에 강의 목록을 로드하는 메소드입니다.
+     * 테이블 모델은 강의 목록을 직접 읽으므로 변경 사실만 알립니다.
+     * 
+     */
+    public void loadLecturesToTable() {
+        Metrics.Operation operation = Metrics.start("table.lectures");
+        tableModel.fireTableDataChanged();
+        operation.end(tableModel.getRowCount(), 0);
+    }
+
+    /*
+     * 강의 추가, 삭제 버튼을 사용할 수 있는지 설정합니다.
+     * 파일을 불러오는 동안에는 변경이 저널에 기록되지 않으므로 메인 애플리케이션이 버튼을 비활성화합니다.
+     */
+    public void setEditable(boolean editable) {
+        for (Component button : buttonPanel.getComponents()) {
+            button.setEnabled(editable);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/*
+ * 강의 테이블 모델 클래스입니다.
+ * 강의 목록을 복사하지 않고 getValueAt 호출 시 직접 읽어 표시합니다.
+ */
+class LectureTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"ID", "기준년도", "강의명", "시간"};
+    private final List<Lecture> lectures;
+
+    public LectureTableModel(List<Lecture> lectures) {
+        this.lectures = lectures;
+    }
+
+    public Lecture getLectureAt(int row) {
+        return lectures.get(row);
+    }
+
+    /*
+     * 저장소의 행 변경(DataRepository.RowListener)을 테이블 이벤트로 알립니다.
+     */
+    public void rowsChanged(int type, int first, int last) {
+        switch (type) {
+            case DataRepository.INSERTED: fireTableRowsInserted(first, last); break;
+            case DataRepository.UPDATED: fireTableRowsUpdated(first, last); break;
+            case DataRepository.DELETED: fireTableRowsDeleted(first, last); break;
+            default: fireTableDataChanged();
+        }
+    }
+
+    @Override
+    public int getRowCount() { return lectures.size(); }
+
+    @Override
+    public int getColumnCount() { return COLUMNS.length; }
+
+    @Override
+    public String getColumnName(int column) { return COLUMNS[column]; }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Lecture lecture = lectures.get(row);
+        switch (column) {
+            case 0: return lecture.getId();
+            case 1: return lecture.getYear();
+            case 2: return lecture.getName();
+            case 3: return lecture.getTime();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+import java.util.Arrays;
+
+/*
+ * long 키와 int 값을 박싱 없이 저장하는 해시 맵입니다.
+ * 열린 주소 방식(선형 탐사)을 사용하며, 삭제 시 뒤따르는 항목을 당겨 빈칸을 메웁니다.
+ * 키는 0 이상이어야 합니다. (-1은 빈칸 표시로 사용)
+ */
+class LongIntHashMap {
+    private static final long EMPTY = -1L;
+    public static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 4 / 3)) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    public int get(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            if (k == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size * 4 > keys.length * 3) { // 부하율 0.75
+                    rehash();
+                }
+                return;
+            }
+        }
+    }
+
+    /*
+     * 키가 없을 때만 값을 저장합니다.
+     */
+    public void putIfAbsent(long key, int value) {
+        if (get(key) == MISSING) {
+            put(key, value);
+        }
+    }
+
+    /*
+     * 키가 expected 값을 가리킬 때만 삭제합니다.
+     */
+    public void remove(long key, int expected) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == EMPTY) {
+                return;
+            }
+            if (k == key) {
+                if (values[i] == expected) {
+                    delete(i);
+                }
+                return;
+            }
+        }
+    }
+
+    private void delete(int hole) {
+        size--;
+        // 탐사 경로가 끊기지 않도록 뒤따르는 항목을 빈칸으로 당깁니다.
+        for (int i = (hole + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+}
@@ -0,0 +1,657 @@
+import javax.swing.*;
+import java.awt.*;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/*
+ * 성적 관리 프로그램의 주요 클래스입니다.
+ *
+ * @author 서장호
+ * @version 1.0 2024.12.24
+ * 
+ * @created 2024.11.28
+ * @updated 2024.12.24
+ * 
+ */
+class ManagementApp extends JFrame {
+    private DataRepository repository = new DataRepository();
+    private final String FILE_NAME = DataFiles.TEXT_NAME;
+    private final String SNAPSHOT_NAME = DataFiles.SNAPSHOT_NAME; // 이진 스냅샷 파일
+    private final String JOURNAL_NAME = DataFiles.JOURNAL_NAME; // 변경 내역 저널 파일
+    private final String ARCHIVE_NAME = DataFiles.ARCHIVE_NAME; // 지난 연도 보관 파일
+    private final String STALL_LOG_NAME = "edt-stalls.log"; // 화면 멈춤 기록 (EdtWatchdog)
+    private final int COMPACT_THRESHOLD = 10000; // 압축을 시작하는 저널 레코드 수
+    private final int COMPACT_CHECK_INTERVAL = 30000; // 압축 필요 여부 확인 주기 (ms)
+
+    private ChangeJournal journal = new ChangeJournal(Paths.get(JOURNAL_NAME));
+    private boolean compacting;
+    private AutoSaver autoSaver = new AutoSaver(this::compact); // 자동 저장 (변경을 모아 스냅샷으로 압축)
+
+    private LecturePanel lecturePanel;
+    private StudentPanel studentPanel;
+    private GradePanel gradePanel;
+    private GradeQueryPanel gradeQueryPanel;
+    private GradeArchive archive; // 보관 파일 (목차만 읽어 두고 페이지는 조회할 때 읽음)
+
+    private JMenuItem saveItem, loadItem, exportTextItem, importTextItem, importCsvItem, exportRostersItem, archiveYearItem;
+    private JProgressBar progressBar; // 데이터 로드 진행률 표시
+    private JLabel latencyLabel; // 이벤트 디스패치 스레드 응답 시간 표시
+    private DataLoadWorker loadWorker;
+    private Metrics.Operation loadOperation; // 진행 중인 로드의 측정 (finishLoading에서 끝냄)
+    private long loadBytes; // 진행 중인 로드가 읽는 파일 크기의 합
+    private CsvImportWorker importWorker;
+    private GradeApiServer apiServer = new GradeApiServer(repository, SwingUtilities::invokeLater); // 내장 HTTP API 서버
+    private boolean snapshotPending; // HTTP API용 스냅샷 공개가 예약되었는지 여부
+
+    /*
+     * 성적 관리 프로그램의 생성자입니다.
+     * 프로그램의 기초 GUI를 구성하고고, 초기 데이터를 로드합니다.
+     */
+    public ManagementApp() {
+        setTitle("성적 관리 프로그램");
+        setSize(800, 600);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        // 메뉴바 추가
+        createMenuBar();
+
+        // 탭 패널 구성
+        JTabbedPane tabbedPane = new JTabbedPane();
+        lecturePanel = new LecturePanel(repository);
+        studentPanel = new StudentPanel(repository);
+        gradePanel = new GradePanel(repository);
+        gradeQueryPanel = new GradeQueryPanel(repository);
+
+        tabbedPane.addTab("강의 관리", lecturePanel);
+        tabbedPane.addTab("학생 관리", studentPanel);
+        tabbedPane.addTab("성적 등록", gradePanel);
+        tabbedPane.addTab("성적 조회", gradeQueryPanel);
+
+        add(tabbedPane, BorderLayout.CENTER);
+
+        // 상태 표시줄 (로드 진행률, 화면 응답 시간)
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+        latencyLabel = new JLabel(" ");
+        latencyLabel.setBorder(BorderFactory.createEmptyBorder(0, 8, 0, 8));
+        JPanel statusPanel = new JPanel(new BorderLayout());
+        statusPanel.add(progressBar, BorderLayout.CENTER);
+        statusPanel.add(latencyLabel, BorderLayout.EAST);
+        add(statusPanel, BorderLayout.SOUTH);
+
+        // 화면 멈춤 감시
+        startWatchdog();
+
+        // 저널 기록 오류 알림
+        journal.setErrorHandler(e -> SwingUtilities.invokeLater(() ->
+                JOptionPane.showMessageDialog(this, "변경 내역 기록 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE)));
+
+        // 자동 저장: 파일 로드 중이 아닐 때의 변경만 표시합니다.
+        repository.addChangeListener(() -> {
+            if (loadWorker == null || loadWorker.isDone()) {
+                autoSaver.markDirty();
+            }
+        });
+
+        // HTTP API 서버가 읽을 스냅샷을 공개합니다. 연속된 변경은 한 번만 새로 만듭니다.
+        repository.addChangeListener(() -> {
+            if (apiServer.isRunning() && !snapshotPending) {
+                snapshotPending = true;
+                SwingUtilities.invokeLater(() -> {
+                    snapshotPending = false;
+                    repository.snapshot();
+                });
+            }
+        });
+
+        // 저널이 커지면 백그라운드에서 스냅샷으로 압축합니다.
+        new javax.swing.Timer(COMPACT_CHECK_INTERVAL, e -> {
+            if (journal.getEntryCount() >= COMPACT_THRESHOLD) {
+                compact();
+            }
+        }).start();
+
+        // 보관 파일은 목차만 읽습니다. 보관한 연도는 초기 데이터 로드에 포함되지 않습니다.
+        openArchive();
+
+        // 초기 데이터 로드 (백그라운드에서 진행되며 창은 바로 표시됩니다)
+        loadData();
+
+        setVisible(true);
+    }
+
+    /*
+     * 이벤트 디스패치 스레드가 멈추는지 감시를 시작합니다. (EdtWatchdog 참고)
+     * 기준 시간(ms)은 grades.edt.threshold 시스템 속성으로 바꿀 수 있으며 0 이하이면 감시하지 않습니다.
+     * 기준 시간보다 오래 응답하지 않으면 그때의 스택과 처리 중인 이벤트를 edt-stalls.log에 기록하고,
+     * 상태 표시줄에는 최근 응답 시간을 표시합니다.
+     */
+    private void startWatchdog() {
+        int threshold = Integer.getInteger("grades.edt.threshold", EdtWatchdog.DEFAULT_THRESHOLD);
+        if (threshold <= 0) {
+            return;
+        }
+        EdtWatchdog watchdog = new EdtWatchdog(Paths.get(STALL_LOG_NAME), threshold);
+        latencyLabel.setToolTipText("화면 응답 시간 (" + threshold + " ms 이상이면 " + STALL_LOG_NAME + "에 기록)");
+        watchdog.setLatencyListener(latency -> {
+            String text = "응답 " + latency + " ms";
+            if (!text.equals(latencyLabel.getText())) {
+                latencyLabel.setText(text);
+                latencyLabel.setForeground(latency >= threshold ? Color.RED : UIManager.getColor("Label.foreground"));
+            }
+        });
+        watchdog.start();
+    }
+
+    /*
+     * 메뉴바를 생성하고 프레임에 추가합니다.
+     * 파일 메뉴와 도움말 메뉴를 구성합니다.
+     * 파일 메뉴에는 저장, 불러오기, 텍스트 내보내기/가져오기, CSV 가져오기, 강의별 명단 내보내기, 연도 보관, 자동 저장, HTTP API 서버, 종료,
+     * 도움말 메뉴에는 성능 통계와 About 메뉴를 추가합니다.
+     */
+    private void createMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+
+        // 파일 메뉴
+        JMenu fileMenu = new JMenu("파일");
+        saveItem = new JMenuItem("저장");
+        loadItem = new JMenuItem("불러오기");
+        exportTextItem = new JMenuItem("텍스트로 내보내기");
+        importTextItem = new JMenuItem("텍스트 가져오기");
+        importCsvItem = new JMenuItem("CSV 가져오기");
+        exportRostersItem = new JMenuItem("강의별 명단 내보내기");
+        archiveYearItem = new JMenuItem("연도 보관");
+        JCheckBoxMenuItem autoSaveItem = new JCheckBoxMenuItem("자동 저장");
+        JCheckBoxMenuItem apiServerItem = new JCheckBoxMenuItem("HTTP API 서버");
+        JMenuItem exitItem = new JMenuItem("종료");
+
+        saveItem.addActionListener(e -> save());
+        loadItem.addActionListener(e -> loadData());
+        exportTextItem.addActionListener(e -> saveToFile());
+        importTextItem.addActionListener(e -> loadFromFile(new File(FILE_NAME), false));
+        importCsvItem.addActionListener(e -> importCsv());
+        exportRostersItem.addActionListener(e -> exportRosters());
+        archiveYearItem.addActionListener(e -> archiveYear());
+        autoSaveItem.addActionListener(e -> autoSaver.setEnabled(autoSaveItem.isSelected()));
+        apiServerItem.addActionListener(e -> apiServerItem.setSelected(setApiServerRunning(apiServerItem.isSelected())));
+        exitItem.addActionListener(e -> System.exit(0));
+
+        fileMenu.add(saveItem);
+        fileMenu.add(loadItem);
+        fileMenu.addSeparator();
+        fileMenu.add(exportTextItem);
+        fileMenu.add(importTextItem);
+        fileMenu.add(importCsvItem);
+        fileMenu.add(exportRostersItem);
+        fileMenu.add(archiveYearItem);
+        fileMenu.addSeparator();
+        fileMenu.add(autoSaveItem);
+        fileMenu.add(apiServerItem);
+        fileMenu.addSeparator();
+        fileMenu.add(exitItem);
+
+        // 도움말 메뉴
+        JMenu helpMenu = new JMenu("도움말");
+        JMenuItem metricsItem = new JMenuItem("성능 통계");
+        JMenuItem aboutItem = new JMenuItem("About");
+        metricsItem.addActionListener(e -> showMetricsDialog());
+        aboutItem.addActionListener(e -> showAboutDialog());
+
+        helpMenu.add(metricsItem);
+        helpMenu.add(aboutItem);
+
+        // 메뉴바에 메뉴 추가
+        menuBar.add(fileMenu);
+        menuBar.add(helpMenu);
+
+        setJMenuBar(menuBar);
+    }
+
+    /*
+     * 내장 HTTP API 서버를 시작하거나 중지하고, 실행 중인지 여부를 반환합니다.
+     * 포트는 grades.http.port 시스템 속성으로 바꿀 수 있습니다. (기본 8080, localhost 전용)
+     * 서버의 성적 등록은 이벤트 디스패치 스레드에서 처리되므로 화면과 같은 순서로 반영됩니다.
+     */
+    private boolean setApiServerRunning(boolean running) {
+        if (!running) {
+            apiServer.stop();
+            return false;
+        }
+        if (apiServer.isRunning()) {
+            return true;
+        }
+        try {
+            repository.snapshot();
+            apiServer.start(Integer.getInteger("grades.http.port", GradeApiServer.DEFAULT_PORT));
+            JOptionPane.showMessageDialog(this, "HTTP API 서버를 시작했습니다.\nhttp://localhost:" + apiServer.getPort() + "/api/",
+                    "성공", JOptionPane.INFORMATION_MESSAGE);
+            return true;
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "HTTP API 서버 시작 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+    }
+
+    /*
+     * 지금까지 측정한 데이터 작업의 횟수와 걸린 시간(Metrics)을 표로 보여 줍니다.
+     */
+    private void showMetricsDialog() {
+        JTextArea textArea = new JTextArea(Metrics.timers().isEmpty() ? "측정된 작업이 없습니다." : Metrics.report());
+        textArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        textArea.setEditable(false);
+        JScrollPane scrollPane = new JScrollPane(textArea);
+        scrollPane.setPreferredSize(new Dimension(760, 300));
+        JOptionPane.showMessageDialog(this, scrollPane, "성능 통계", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /*
+     * About 다이얼로그를 표시합니다.
+     */
+    private void showAboutDialog() {
+        JOptionPane.showMessageDialog(this,
+                "성적 관리 프로그램 \n" +
+                        "제작자: Seojangho\n" +
+                        "기능: 강의, 학생, 성적 관리를 위한 프로그램\n" +
+                        "100점 주세요",
+                "About",
+                JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /*
+     * 데이터를 저장하는 메소드입니다.
+     * 모든 변경은 이미 저널(data.journal)에 기록되어 있으므로
+     * 저널을 디스크에 반영하기만 합니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    private void save() {
+        try {
+            journal.sync();
+            JOptionPane.showMessageDialog(this, "파일 저장이 완료되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "파일 저장 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /*
+     * 저널을 이진 스냅샷(data.bin)으로 압축하는 메소드입니다.
+     * 현재 데이터의 복사본과 저널 일련번호를 기록해 두고 저널을 교체한 뒤,
+     * 백그라운드에서 임시 파일에 스냅샷을 쓰고 data.bin으로 이름을 바꿉니다.
+     * 압축 중에 일어난 변경은 새 저널에 기록되므로 잃어버리지 않습니다.
+     * 압축을 시작하지 못한 경우(이미 압축 중인 경우 등) false를 반환합니다.
+     */
+    private boolean compact() {
+        if (compacting || !journal.isOpen()) {
+            return false;
+        }
+
+        DataSnapshot snapshot = repository.snapshot();
+        long sequence = journal.lastSequence();
+        try {
+            journal.rotate();
+        } catch (IOException | RuntimeException e) {
+            JOptionPane.showMessageDialog(this, "파일 저장 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+
+        compacting = true;
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                AtomicFileWriter.write(Paths.get(SNAPSHOT_NAME),
+                        temp -> SnapshotFile.write(temp, sequence, snapshot.getLectures(), snapshot.getStudents(), snapshot.getGradeStore()));
+                journal.finishCompaction();
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                compacting = false;
+                try {
+                    get();
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(ManagementApp.this, "파일 저장 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+        return true;
+    }
+
+    /*
+     * 데이터를 텍스트로 내보내는 메소드입니다. 
+     * data.txt 파일에
+     * #LECTURES, #STUDENTS, #GRADES 섹션으로 데이터를 저장합니다.
+     * 한글 이름이 깨지지 않도록 UTF-8로 저장합니다.
+     * 현재 목록의 복사본을 백그라운드에서 임시 파일에 쓴 뒤 data.txt를 교체하므로
+     * 저장 중에 화면이 멈추거나 기존 파일이 잘리지 않습니다.
+     * 
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     * 
+     */
+    private void saveToFile() {
+        Metrics.Operation operation = Metrics.start("file.save", FILE_NAME);
+        DataSnapshot snapshot = repository.snapshot();
+        long records = snapshot.getLectures().size() + snapshot.getStudents().size() + snapshot.getGradeStore().size();
+
+        exportTextItem.setEnabled(false);
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws IOException {
+                AtomicFileWriter.write(Paths.get(FILE_NAME), temp -> DataFiles.writeText(temp,
+                        snapshot.getLectures(), snapshot.getStudents(), snapshot.getGradeStore()));
+                return Files.size(Paths.get(FILE_NAME));
+            }
+
+            @Override
+            protected void done() {
+                exportTextItem.setEnabled(true);
+                try {
+                    operation.end(records, get());
+                    JOptionPane.showMessageDialog(ManagementApp.this, "파일 저장이 완료되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+                } catch (ExecutionException e) {
+                    operation.fail();
+                    JOptionPane.showMessageDialog(ManagementApp.this, "파일 저장 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /*
+     * 데이터를 불러오는 메소드입니다.
+     * 기존 데이터를 비운 뒤 DataLoadWorker로 파일(data.bin 또는 data.txt)을
+     * 백그라운드에서 읽어 강의, 학생, 성적 리스트에 저장합니다.
+     * replayJournal이 true이면 파일 이후에 저널에 기록된 변경도 다시 적용합니다.
+     * file이 null이면 저널만 적용합니다.
+     * 로드 중에는 저장과 불러오기 메뉴, 각 탭의 변경 버튼과 HTTP API의 성적 등록을 막고 저널 기록을 멈춥니다.
+     * 기록되지 않은 변경이 생기지 않도록 하기 위한 것이며, 로드된 부분의 조회와 검색은 계속 할 수 있습니다.
+     */
+    private void loadFromFile(File file, boolean replayJournal) {
+        if (loadWorker != null && !loadWorker.isDone()) {
+            return; // 이미 로드 중인 경우
+        }
+
+        repository.setJournal(null);
+        repository.clear(); // 테이블과 콤보박스는 저장소의 행 변경 알림으로 비워집니다.
+
+        setLoading(true);
+        java.util.List<Path> journalFiles = replayJournal
+                ? Arrays.asList(journal.getRotatedFile(), journal.getFile())
+                : Collections.<Path>emptyList();
+        loadBytes = (file == null ? 0 : file.length());
+        for (Path journalFile : journalFiles) {
+            loadBytes += journalFile.toFile().length();
+        }
+        loadOperation = Metrics.start("file.load", file == null ? JOURNAL_NAME : file.getName());
+        loadWorker = new DataLoadWorker(this, file, journalFiles);
+        loadWorker.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+        loadWorker.execute();
+    }
+
+    /*
+     * DataLoadWorker가 끝났을 때 호출되는 메소드입니다.
+     * 저널의 변경을 다시 적용하고 저널 기록을 시작한 뒤,
+     * 콤보박스를 갱신하고 결과를 다이얼로그로 표시합니다.
+     * 텍스트 파일을 읽은 경우에는 바로 스냅샷으로 압축하여
+     * 이후의 저널이 항상 스냅샷을 기준으로 하도록 합니다.
+     */
+    void finishLoading(DataLoadWorker worker) {
+        setLoading(false);
+        try {
+            worker.get();
+
+            repository.beginBatch();
+            try {
+                for (ChangeJournal.Entry entry : worker.getJournalEntries()) {
+                    entry.apply(repository);
+                }
+            } finally {
+                repository.endBatch();
+            }
+            journal.open(worker.getLastSequence() + 1);
+            repository.setJournal(journal);
+
+            // 로드한 레코드 수와 파일 크기를 측정 기록(Metrics, JFR)에 남깁니다.
+            loadOperation.end(repository.getLectures().size() + repository.getStudents().size()
+                    + repository.getGrades().size(), loadBytes);
+
+            if (!worker.isSnapshotSource()) {
+                compact();
+            }
+
+            if (worker.getFile() != null) {
+                JOptionPane.showMessageDialog(this, "파일 로드가 완료되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+            }
+        } catch (IOException e) {
+            loadOperation.fail();
+            JOptionPane.showMessageDialog(this, "파일 로드 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        } catch (ExecutionException e) {
+            loadOperation.fail();
+            JOptionPane.showMessageDialog(this, "파일 로드 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        } catch (InterruptedException | CancellationException e) {
+            loadOperation.fail();
+            JOptionPane.showMessageDialog(this, "파일 로드가 취소되었습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /*
+     * 로드 상태에 따라 진행률 표시줄과 메뉴를 설정합니다.
+     * 로드 중에는 저장소의 변경이 저널에 기록되지 않으므로 (loadFromFile 참고)
+     * 강의, 학생, 성적 탭의 변경 버튼과 HTTP API의 성적 등록도 막아 변경을 잃어버리지 않게 합니다.
+     * 조회는 로드 중에도 할 수 있습니다.
+     */
+    private void setLoading(boolean loading) {
+        progressBar.setValue(0);
+        progressBar.setVisible(loading);
+        saveItem.setEnabled(!loading);
+        loadItem.setEnabled(!loading);
+        exportTextItem.setEnabled(!loading);
+        importTextItem.setEnabled(!loading);
+        importCsvItem.setEnabled(!loading);
+        exportRostersItem.setEnabled(!loading);
+        archiveYearItem.setEnabled(!loading);
+        lecturePanel.setEditable(!loading);
+        studentPanel.setEditable(!loading);
+        gradePanel.setEditable(!loading);
+        apiServer.setReadOnly(loading);
+    }
+
+    /*
+     * 수강 정보와 성적을 CSV 파일에서 가져오는 메소드입니다.
+     * 선택한 파일을 CsvImportWorker로 백그라운드에서 읽어 저장소에 반영하며,
+     * 가져오는 동안에는 로드와 같이 메뉴를 비활성화하고 진행률을 표시합니다.
+     * 저장소의 변경 묶음을 가져오기 전체에 걸어 두므로 테이블과 콤보박스는 끝날 때 한 번만 갱신됩니다.
+     */
+    private void importCsv() {
+        if ((loadWorker != null && !loadWorker.isDone()) || (importWorker != null && !importWorker.isDone())) {
+            return; // 이미 로드 중이거나 가져오는 중인 경우
+        }
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV 파일", "csv", "txt"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        setLoading(true);
+        importWorker = new CsvImportWorker(this, chooser.getSelectedFile().toPath());
+        importWorker.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+        repository.beginBatch(); // finishImport()에서 끝냅니다.
+        importWorker.execute();
+    }
+
+    /*
+     * 강의마다 수강 학생 명단과 성적을 CSV 파일로 내보내는 메소드입니다.
+     * 선택한 폴더에 "<강의명>_<기준년도>.csv" 파일을 만들며, 강의별 파일은 백그라운드에서 병렬로 씁니다.
+     * 이벤트 디스패치 스레드에서 만든 스냅샷을 읽으므로 내보내는 동안에도 편집할 수 있습니다.
+     */
+    private void exportRosters() {
+        JFileChooser chooser = new JFileChooser(new File("."));
+        chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path directory = chooser.getSelectedFile().toPath();
+
+        DataSnapshot snapshot = repository.snapshot();
+
+        exportRostersItem.setEnabled(false);
+        new ExportWorker(this, "강의별 명단 내보내기", (progress, cancelled) -> {
+            Files.createDirectories(directory);
+            return CsvExporter.writeRosters(directory, snapshot, progress, cancelled);
+        }) {
+            @Override
+            protected void done() {
+                exportRostersItem.setEnabled(!progressBar.isVisible());
+                super.done();
+            }
+        }.execute();
+    }
+
+    /*
+     * 보관 파일(data.archive)의 목차를 읽어 성적 조회 화면에 전달하는 메소드입니다.
+     * 페이지는 조회 화면에서 보관된 연도를 선택할 때 필요한 것만 읽습니다.
+     */
+    private void openArchive() {
+        try {
+            GradeArchive opened = GradeArchive.open(Paths.get(ARCHIVE_NAME), GradeArchive.DEFAULT_CACHE_PAGES);
+            if (archive != null) {
+                archive.close();
+            }
+            archive = opened;
+            gradeQueryPanel.setArchive(archive);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "보관 파일 읽기 중 오류 발생: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /*
+     * 선택한 기준년도를 보관 파일로 옮기는 메소드입니다.
+     * 옮긴 연도는 프로그램을 열 때 읽지 않으며, 성적 조회 화면에서 선택할 때만 보관 파일에서 읽습니다.
+     */
+    private void archiveYear() {
+        Object[] years = repository.getYears().toArray();
+        if (years.length == 0) {
+            JOptionPane.showMessageDialog(this, "보관할 기준년도가 없습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        Object year = JOptionPane.showInputDialog(this, "보관 파일로 옮길 기준년도를 선택하세요.\n옮긴 연도는 성적 조회에서만 볼 수 있습니다.",
+                "연도 보관", JOptionPane.QUESTION_MESSAGE, null, years, years[0]);
+        if (year != null) {
+            writeArchive((String) year);
+        }
+    }
+
+    /*
+     * 스냅샷으로 백그라운드에서 새 보관 파일을 만든 뒤, 저장소에서 그 연도를 지우고 압축합니다.
+     * 보관 파일을 쓰는 동안 데이터가 바뀌었으면 바뀐 내용으로 다시 씁니다.
+     * 보관 파일을 먼저 교체하므로 중간에 종료되어도 데이터를 잃지 않습니다. (DataFiles.archiveYear 참고)
+     */
+    private void writeArchive(String year) {
+        DataSnapshot snapshot = repository.snapshot();
+        long sequence = journal.lastSequence();
+        Path path = Paths.get(ARCHIVE_NAME);
+
+        archiveYearItem.setEnabled(false);
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                AtomicFileWriter.write(path, temp -> GradeArchive.write(temp, path, year,
+                        snapshot.getLectures(), snapshot.getStudents(), snapshot.getGradeStore()));
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                archiveYearItem.setEnabled(!progressBar.isVisible());
+                try {
+                    get();
+                    if (journal.lastSequence() != sequence) {
+                        writeArchive(year);
+                        return;
+                    }
+                    int grades = repository.getGradeStatistics(null, year).getCount();
+                    int lectures = repository.removeYear(year);
+                    openArchive();
+                    compact();
+                    JOptionPane.showMessageDialog(ManagementApp.this, year + "년 강의 " + lectures + "개, 성적 " + grades +
+                            "건을 보관 파일로 옮겼습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+                } catch (ExecutionException e) {
+                    JOptionPane.showMessageDialog(ManagementApp.this, "보관 파일 저장 중 오류 발생: " + e.getCause().getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.execute();
+    }
+
+    /*
+     * CsvImportWorker가 끝났을 때 호출되는 메소드입니다.
+     * 변경 묶음을 끝내 테이블과 콤보박스를 한 번만 갱신하고 결과 요약을 다이얼로그로 표시합니다.
+     * 취소되거나 오류가 발생한 경우에도 호출됩니다.
+     */
+    void finishImport(CsvImportWorker worker) {
+        setLoading(false);
+        repository.endBatch();
+
+        String summary = worker.getImporter().getSummary();
+        try {
+            worker.get();
+            if (worker.getApplyError() != null) {
+                throw new ExecutionException(worker.getApplyError());
+            }
+            JOptionPane.showMessageDialog(this, "CSV 가져오기가 완료되었습니다.\n" + summary, "성공",
+                    worker.getImporter().getRejectedCount() > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+        } catch (ExecutionException e) {
+            JOptionPane.showMessageDialog(this, "CSV 가져오기 중 오류 발생: " + e.getCause().getMessage() + "\n" + summary, "오류", JOptionPane.ERROR_MESSAGE);
+        } catch (InterruptedException | CancellationException e) {
+            JOptionPane.showMessageDialog(this, "CSV 가져오기가 취소되었습니다.\n" + summary, "오류", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /*
+     * loadFromFile() 메소드를 호출하여 데이터를 불러옵니다.
+     * 이진 스냅샷(data.bin)이 있으면 이를 우선 사용하고,
+     * 없으면 텍스트 파일(data.txt)을 읽습니다.
+     * 어느 경우든 이후에 저널에 기록된 변경을 다시 적용합니다.
+     * 
+     */
+    private void loadData() {
+        File snapshot = new File(SNAPSHOT_NAME);
+        File file = new File(FILE_NAME);
+        if (snapshot.exists()) {
+            loadFromFile(snapshot, true);
+        } else if (file.exists()) {
+            loadFromFile(file, true);
+        } else {
+            loadFromFile(null, true);
+        }
+    }
+
+    // Getter 메소드입니다.
+    public DataRepository getRepository() {return repository;}
+    public java.util.List<Lecture> getLectures() {return repository.getLectures();}
+    public java.util.List<Student> getStudents() {return repository.getStudents();}
+    public java.util.List<Grade> getGrades() {return repository.getGrades();}
+    public LecturePanel getLecturePanel() {return lecturePanel;}
+    public StudentPanel getStudentPanel() {return studentPanel;}
+    public GradePanel getGradePanel() {return gradePanel;}
+    public GradeQueryPanel getGradeQueryPanel() {return gradeQueryPanel;}
+}
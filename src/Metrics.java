@@ -0,0 +1,214 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 데이터 작업의 횟수, 처리한 레코드 수와 크기, 걸린 시간 분포를 모아 두는 프로그램 내부의 측정 기록입니다.
+ * 작업마다 이름으로 구분되는 Timer가 하나씩 있으며, 측정은 다음과 같이 합니다.
+ *
+ *   Metrics.Operation operation = Metrics.start("grade.filter", 조건);
+ *   ... 작업 ...
+ *   operation.end(레코드 수, 바이트 수);
+ *
+ * 같은 측정이 JFR 이벤트(OperationEvent)로도 기록되므로, 사용자가 느리다고 한 시점을
+ * 운영 환경의 JFR 기록에서 구체적인 작업과 맞춰 볼 수 있습니다.
+ * 누적 값은 도움말의 "성능 통계" 메뉴와 HTTP API의 /api/metrics에서 볼 수 있습니다.
+ *
+ * 모든 메소드는 어느 스레드에서 호출해도 됩니다. (백그라운드에서 끝나는 파일 저장 등)
+ */
+final class Metrics {
+    // 이름순으로 보여 주기 위해 조회할 때 정렬합니다.
+    private static final ConcurrentMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    /*
+     * 이름에 해당하는 Timer를 반환합니다. 없으면 새로 만듭니다.
+     */
+    static Timer timer(String name) {
+        return TIMERS.computeIfAbsent(name, Timer::new);
+    }
+
+    /*
+     * 작업 측정을 시작합니다. detail은 JFR 이벤트에 함께 기록할 대상(파일 이름, 조건 등)이며 null이어도 됩니다.
+     */
+    static Operation start(String name, String detail) {
+        return new Operation(timer(name), detail);
+    }
+
+    static Operation start(String name) {
+        return start(name, null);
+    }
+
+    /*
+     * 지금까지 측정한 모든 Timer를 이름순으로 반환합니다.
+     */
+    static List<Timer> timers() {
+        List<Timer> timers = new ArrayList<>(TIMERS.values());
+        timers.sort(Comparator.comparing(Timer::getName));
+        return timers;
+    }
+
+    /*
+     * 측정 기록을 표 형식의 문자열로 반환합니다. 시간은 ms 단위입니다.
+     */
+    static String report() {
+        StringBuilder report = new StringBuilder(String.format("%-16s %8s %6s %10s %10s %10s %10s %12s %12s%n",
+                "작업", "횟수", "실패", "평균", "p50", "p99", "최대", "레코드", "바이트"));
+        for (Timer timer : timers()) {
+            report.append(String.format("%-16s %8d %6d %10.2f %10.2f %10.2f %10.2f %12d %12d%n",
+                    timer.getName(), timer.getCount(), timer.getErrors(), millis(timer.getMeanNanos()),
+                    millis(timer.percentileNanos(0.5)), millis(timer.percentileNanos(0.99)), millis(timer.getMaxNanos()),
+                    timer.getRecords(), timer.getBytes()));
+        }
+        return report.toString();
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /*
+     * 측정 중인 작업 하나입니다. end() 또는 fail()을 한 번만 호출합니다.
+     * 시작한 스레드와 끝내는 스레드가 달라도 됩니다.
+     */
+    static final class Operation {
+        private final Timer timer;
+        private final OperationEvent event = new OperationEvent();
+        private final long start = System.nanoTime();
+
+        private Operation(Timer timer, String detail) {
+            this.timer = timer;
+            event.operation = timer.getName();
+            event.detail = detail;
+            event.begin();
+        }
+
+        /*
+         * 작업이 끝났음을 기록합니다. records는 처리한 레코드(행) 수, bytes는 읽거나 쓴 크기이며 모르면 0입니다.
+         */
+        void end(long records, long bytes) {
+            finish(records, bytes, false);
+        }
+
+        /*
+         * 작업이 실패했음을 기록합니다. 걸린 시간은 실패한 작업도 분포에 포함합니다.
+         */
+        void fail() {
+            finish(0, 0, true);
+        }
+
+        private void finish(long records, long bytes, boolean failed) {
+            timer.record(System.nanoTime() - start, records, bytes, failed);
+            event.end();
+            if (event.shouldCommit()) {
+                event.records = records;
+                event.bytes = bytes;
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    /*
+     * 작업 하나의 누적 기록입니다.
+     * 걸린 시간은 2의 거듭제곱 μs 구간(1μs 미만, 1~2μs, 2~4μs, ...)별 횟수로 보관하므로
+     * 백분위 값은 해당 구간의 상한으로 어림한 값입니다.
+     */
+    static final class Timer {
+        private static final int BUCKETS = 40; // 2^39 μs (약 6일)까지
+
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder records = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        private Timer(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos, long recordCount, long byteCount, boolean failed) {
+            count.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            records.add(recordCount);
+            bytes.add(byteCount);
+            buckets.incrementAndGet(bucket(nanos));
+        }
+
+        private static int bucket(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            return micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        }
+
+        String getName() { return name; }
+
+        long getCount() { return count.sum(); }
+
+        long getErrors() { return errors.sum(); }
+
+        long getTotalNanos() { return totalNanos.sum(); }
+
+        long getMaxNanos() { return maxNanos.get(); }
+
+        long getRecords() { return records.sum(); }
+
+        long getBytes() { return bytes.sum(); }
+
+        long getMeanNanos() {
+            long n = getCount();
+            return n == 0 ? 0 : getTotalNanos() / n;
+        }
+
+        /*
+         * 구간별 횟수를 반환합니다. i번째 구간의 상한은 upperBoundNanos(i)입니다.
+         */
+        long[] getHistogram() {
+            long[] histogram = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = buckets.get(i);
+            }
+            return histogram;
+        }
+
+        static long upperBoundNanos(int bucket) {
+            return TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+        }
+
+        /*
+         * 걸린 시간의 백분위(0~1) 값을 구간 상한으로 어림하여 반환합니다. 최대값보다 크게 반환하지는 않습니다.
+         */
+        long percentileNanos(double percentile) {
+            long[] histogram = getHistogram();
+            long total = 0;
+            for (long n : histogram) {
+                total += n;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i];
+                if (seen >= rank) {
+                    return Math.min(upperBoundNanos(i), getMaxNanos());
+                }
+            }
+            return getMaxNanos();
+        }
+    }
+}
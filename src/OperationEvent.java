@@ -0,0 +1,36 @@
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * 데이터 작업 하나(파일 로드/저장, 성적 추가, 필터링, 삭제, 테이블 갱신)를 기록하는 JDK Flight Recorder 이벤트입니다.
+ * Metrics.start()가 만들고 Metrics.Operation.end()가 기록하므로 직접 만들지 않습니다.
+ *
+ * 기록은 JFR이 켜져 있을 때만 남습니다. 예를 들어
+ *   java -XX:StartFlightRecording=filename=grades.jfr -jar grade-manager.jar
+ * 로 실행한 뒤 JDK Mission Control이나 "jfr print --events javafinal.DataOperation grades.jfr"로 확인합니다.
+ */
+@Name("javafinal.DataOperation")
+@Label("데이터 작업")
+@Category("성적 관리")
+@Description("파일 로드/저장, 성적 추가, 필터링, 삭제, 테이블 갱신에 걸린 시간과 처리한 레코드 수")
+class OperationEvent extends Event {
+    @Label("작업")
+    String operation;
+
+    @Label("대상")
+    String detail;
+
+    @Label("레코드 수")
+    long records;
+
+    @Label("크기")
+    @DataAmount
+    long bytes;
+
+    @Label("실패")
+    boolean failed;
+}
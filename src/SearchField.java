@@ -0,0 +1,44 @@
+import javax.swing.JTextField;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.function.Consumer;
+
+/*
+ * 입력하는 동안 검색하는 입력란입니다.
+ * 글자가 바뀔 때마다 검색하지 않고, 마지막 입력 후 DELAY 동안 입력이 없을 때 한 번만 검색합니다.
+ * Enter를 누르면 기다리지 않고 바로 검색합니다.
+ * 검색 동작(onSearch)은 이벤트 디스패치 스레드에서 앞뒤 공백을 지운 입력값으로 호출됩니다.
+ */
+class SearchField extends JTextField {
+    static final int DELAY = 150; // 마지막 입력 후 검색까지 기다리는 시간 (ms)
+
+    private final Timer timer;
+
+    public SearchField(int columns, Consumer<String> onSearch) {
+        super(columns);
+        this.timer = new Timer(DELAY, e -> onSearch.accept(getQuery()));
+        this.timer.setRepeats(false);
+        getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { timer.restart(); }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) { timer.restart(); }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {}
+        });
+        addActionListener(e -> {
+            timer.stop();
+            onSearch.accept(getQuery());
+        });
+    }
+
+    /*
+     * 앞뒤 공백을 지운 입력값을 반환합니다.
+     */
+    public String getQuery() {
+        return getText().trim();
+    }
+}
@@ -0,0 +1,331 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 이진 스냅샷 파일(data.bin)을 읽고 쓰는 클래스입니다.
+ * 텍스트 형식(data.txt)보다 작고, 배열 단위로 한 번에 읽을 수 있습니다.
+ * 총점과 평균은 저장하지 않고 읽은 뒤 저장소에서 다시 계산합니다.
+ *
+ * 파일 구조 (빅 엔디언)
+ * - 헤더: MAGIC(int), VERSION(int), 반영된 저널 일련번호(long, 버전 2부터)
+ * - 문자열 사전: 개수, 길이 열, UTF-8 바이트 묶음
+ * - 강의 블록: 개수, id / 기준년도 / 강의명 / 시간 열
+ * - 학생 블록: 개수, id / 강의명 / 기준년도 / 이름 / 학번 열
+ * - 성적 블록: 개수, id / 강의명 / 기준년도 / 학생명 / 중간 / 기말 / 과제 열
+ * 문자열 필드는 사전의 번호로 저장됩니다.
+ * 각 열은 폭(1, 2, 4바이트) 한 바이트와 고정 폭 값들로 이루어집니다.
+ */
+class SnapshotFile {
+    static final int MAGIC = 0x47524453; // "GRDS"
+    static final int VERSION = 2;
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private SnapshotFile() {}
+
+    /*
+     * 파일이 이진 스냅샷 형식인지 헤더로 확인합니다.
+     */
+    public static boolean isSnapshot(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            return channel.read(header) == 4 && header.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // ===== 쓰기 =====
+
+    /*
+     * 저장소의 전체 데이터를 스냅샷 파일로 저장합니다.
+     * journalSequence는 이 스냅샷에 반영된 마지막 저널 레코드의 일련번호입니다.
+     *
+     * @throws IOException 파일 저장 중 오류가 발생한 경우
+     */
+    public static void write(Path path, long journalSequence,
+                             List<Lecture> lectures, List<Student> students, GradeStore grades) throws IOException {
+        Dictionary dictionary = new Dictionary();
+
+        int[][] lectureColumns = new int[4][lectures.size()];
+        for (int i = 0; i < lectures.size(); i++) {
+            Lecture lecture = lectures.get(i);
+            lectureColumns[0][i] = lecture.getId();
+            lectureColumns[1][i] = dictionary.code(lecture.getYear());
+            lectureColumns[2][i] = dictionary.code(lecture.getName());
+            lectureColumns[3][i] = dictionary.code(lecture.getTime());
+        }
+
+        int[][] studentColumns = new int[5][students.size()];
+        for (int i = 0; i < students.size(); i++) {
+            Student student = students.get(i);
+            studentColumns[0][i] = student.getId();
+            studentColumns[1][i] = dictionary.code(student.getLectureName());
+            studentColumns[2][i] = dictionary.code(student.getYear());
+            studentColumns[3][i] = dictionary.code(student.getName());
+            studentColumns[4][i] = dictionary.code(student.getStudentId());
+        }
+
+        // 성적 저장소의 문자열 번호를 사전 번호로 한 번씩만 변환합니다.
+        int[] remap = new int[grades.getSymbols().size()];
+        Arrays.fill(remap, -1);
+        int[][] gradeColumns = new int[7][grades.size()];
+        for (int i = 0; i < grades.size(); i++) {
+            gradeColumns[0][i] = grades.getId(i);
+            gradeColumns[1][i] = remap(dictionary, grades.getSymbols(), remap, grades.getLectureCode(i));
+            gradeColumns[2][i] = remap(dictionary, grades.getSymbols(), remap, grades.getYearCode(i));
+            gradeColumns[3][i] = remap(dictionary, grades.getSymbols(), remap, grades.getStudentCode(i));
+            gradeColumns[4][i] = grades.getMidterm(i);
+            gradeColumns[5][i] = grades.getFinalExam(i);
+            gradeColumns[6][i] = grades.getAssignment(i);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Output out = new Output(channel);
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putLong(journalSequence);
+
+            // 문자열 사전
+            List<byte[]> encoded = new ArrayList<>(dictionary.strings.size());
+            int[] lengths = new int[dictionary.strings.size()];
+            for (int i = 0; i < lengths.length; i++) {
+                byte[] bytes = dictionary.strings.get(i).getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                lengths[i] = bytes.length;
+            }
+            out.putInt(lengths.length);
+            out.putColumn(lengths);
+            for (byte[] bytes : encoded) {
+                out.putBytes(bytes);
+            }
+
+            writeBlock(out, lectureColumns);
+            writeBlock(out, studentColumns);
+            writeBlock(out, gradeColumns);
+            out.flush();
+        }
+    }
+
+    private static int remap(Dictionary dictionary, SymbolTable symbols, int[] remap, int code) {
+        if (remap[code] < 0) {
+            remap[code] = dictionary.code(symbols.symbol(code));
+        }
+        return remap[code];
+    }
+
+    private static void writeBlock(Output out, int[][] columns) throws IOException {
+        out.putInt(columns[0].length);
+        for (int[] column : columns) {
+            out.putColumn(column);
+        }
+    }
+
+    /*
+     * 문자열을 처음 나온 순서대로 번호를 매기는 사전입니다.
+     */
+    private static class Dictionary {
+        final Map<String, Integer> codes = new HashMap<>();
+        final List<String> strings = new ArrayList<>();
+
+        int code(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = strings.size();
+                codes.put(value, code);
+                strings.add(value);
+            }
+            return code;
+        }
+    }
+
+    /*
+     * 고정 크기 버퍼에 모아서 채널에 쓰는 출력 클래스입니다.
+     */
+    private static class Output {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        Output(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        /*
+         * 값의 범위에 맞는 가장 작은 폭(1, 2, 4바이트)으로 열을 기록합니다.
+         */
+        void putColumn(int[] values) throws IOException {
+            int min = 0, max = 0;
+            for (int value : values) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            int width = (min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE) ? 1
+                    : (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) ? 2 : 4;
+            ensure(1);
+            buffer.put((byte) width);
+            for (int value : values) {
+                ensure(width);
+                switch (width) {
+                    case 1: buffer.put((byte) value); break;
+                    case 2: buffer.putShort((short) value); break;
+                    default: buffer.putInt(value); break;
+                }
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    // ===== 읽기 =====
+
+    /*
+     * 스냅샷 파일을 읽어 각 레코드를 handler에 전달합니다.
+     * 열 단위로 한 번에 읽은 뒤 레코드를 만듭니다.
+     * 스냅샷에 반영된 마지막 저널 일련번호를 반환합니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식이 잘못된 경우
+     */
+    public static long read(Path path, DataFileParser.Handler handler) throws IOException {
+        long size = Files.size(path);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷 파일이 너무 큽니다: " + size + " bytes");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < 8 || buffer.getInt() != MAGIC) {
+                throw new IOException("스냅샷 파일 형식이 아닙니다.");
+            }
+            int version = buffer.getInt();
+            if (version < 1 || version > VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+            }
+            long journalSequence = version >= 2 ? buffer.getLong() : 0;
+
+            // 문자열 사전
+            int stringCount = buffer.getInt();
+            int[] lengths = readColumn(buffer, stringCount);
+            String[] strings = new String[stringCount];
+            byte[] scratch = new byte[128];
+            for (int i = 0; i < stringCount; i++) {
+                if (lengths[i] > scratch.length) {
+                    scratch = new byte[Math.max(lengths[i], scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, lengths[i]);
+                strings[i] = new String(scratch, 0, lengths[i], StandardCharsets.UTF_8);
+            }
+
+            handler.section("#LECTURES");
+            int[][] lectures = readBlock(buffer, 4);
+            for (int i = 0; i < lectures[0].length; i++) {
+                handler.lecture(lectures[0][i], strings[lectures[1][i]], strings[lectures[2][i]], strings[lectures[3][i]]);
+            }
+            handler.progress(buffer.position(), size);
+
+            handler.section("#STUDENTS");
+            int[][] students = readBlock(buffer, 5);
+            for (int i = 0; i < students[0].length; i++) {
+                handler.student(students[0][i], strings[students[1][i]], strings[students[2][i]],
+                                strings[students[3][i]], strings[students[4][i]]);
+            }
+            handler.progress(buffer.position(), size);
+
+            handler.section("#GRADES");
+            int[][] grades = readBlock(buffer, 7);
+            for (int i = 0; i < grades[0].length && !handler.isCancelled(); i++) {
+                handler.grade(grades[0][i], strings[grades[1][i]], strings[grades[2][i]], strings[grades[3][i]],
+                              grades[4][i], grades[5][i], grades[6][i]);
+            }
+            handler.progress(size, size);
+            return journalSequence;
+        } catch (java.nio.BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("스냅샷 파일이 손상되었습니다.", e);
+        }
+    }
+
+    private static int[][] readBlock(ByteBuffer buffer, int columnCount) {
+        int count = buffer.getInt();
+        int[][] columns = new int[columnCount][];
+        for (int c = 0; c < columnCount; c++) {
+            columns[c] = readColumn(buffer, count);
+        }
+        return columns;
+    }
+
+    /*
+     * 열 하나를 폭에 맞춰 한 번에 읽어 int 배열로 반환합니다.
+     */
+    private static int[] readColumn(ByteBuffer buffer, int count) {
+        int width = buffer.get();
+        int[] values = new int[count];
+        switch (width) {
+            case 1: {
+                byte[] bytes = new byte[count];
+                buffer.get(bytes);
+                for (int i = 0; i < count; i++) {
+                    values[i] = bytes[i];
+                }
+                break;
+            }
+            case 2: {
+                short[] shorts = new short[count];
+                buffer.asShortBuffer().get(shorts);
+                buffer.position(buffer.position() + count * 2);
+                for (int i = 0; i < count; i++) {
+                    values[i] = shorts[i];
+                }
+                break;
+            }
+            case 4:
+                buffer.asIntBuffer().get(values);
+                buffer.position(buffer.position() + count * 4);
+                break;
+            default:
+                throw new IndexOutOfBoundsException("잘못된 열 폭: " + width);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,115 @@
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/*
+ * 고정 크기 조각으로 나눈 목록입니다. DataRepository의 학생 목록을 보관합니다.
+ * IntColumn과 같이 snapshot()은 조각 배열만 복사하고, 공유 중인 조각은 처음 수정할 때만 복사합니다.
+ * 뒤에 추가(add)하거나 마지막 항목을 지우는(removeLast) 것과 항목 교체(set)만 지원합니다.
+ *
+ * 수정은 한 스레드에서만 해야 하며, 스냅샷은 변경되지 않으므로 어느 스레드에서든 읽을 수 있습니다.
+ */
+class SnapshotList<T> extends AbstractList<T> {
+    private static final int CHUNK_BITS = IntColumn.CHUNK_BITS;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private Object[][] chunks;
+    private boolean[] owned; // 조각을 스냅샷과 공유하지 않는지 여부
+    private int sharedSize;  // 이보다 작은 위치는 스냅샷과 공유할 수 있음
+    private int size;
+    private final boolean frozen;
+
+    public SnapshotList() {
+        this(new Object[0][], new boolean[0], 0, 0, false);
+    }
+
+    private SnapshotList(Object[][] chunks, boolean[] owned, int sharedSize, int size, boolean frozen) {
+        this.chunks = chunks;
+        this.owned = owned;
+        this.sharedSize = sharedSize;
+        this.size = size;
+        this.frozen = frozen;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(T item) {
+        write(size, item);
+        size++;
+        return true;
+    }
+
+    @Override
+    public T set(int index, T item) {
+        T old = get(index);
+        write(index, item);
+        return old;
+    }
+
+    /*
+     * 마지막 항목을 지우고 반환합니다.
+     */
+    public T removeLast() {
+        T last = get(size - 1);
+        write(size - 1, null);
+        size--;
+        return last;
+    }
+
+    /*
+     * 모든 항목을 지웁니다. 스냅샷과 공유하던 조각은 버리고 새 조각을 사용합니다.
+     */
+    @Override
+    public void clear() {
+        if (frozen) {
+            throw new UnsupportedOperationException("스냅샷은 수정할 수 없습니다.");
+        }
+        chunks = new Object[0][];
+        owned = new boolean[0];
+        sharedSize = 0;
+        size = 0;
+    }
+
+    private void write(int index, Object item) {
+        if (frozen) {
+            throw new UnsupportedOperationException("스냅샷은 수정할 수 없습니다.");
+        }
+        int chunk = index >>> CHUNK_BITS;
+        if (chunk >= chunks.length) {
+            int length = Math.max(chunk + 1, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, length);
+            owned = Arrays.copyOf(owned, length);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[CHUNK_SIZE];
+            owned[chunk] = true;
+        } else if (!owned[chunk] && index < sharedSize) {
+            chunks[chunk] = chunks[chunk].clone();
+            owned[chunk] = true;
+        }
+        chunks[chunk][index & CHUNK_MASK] = item;
+    }
+
+    /*
+     * 현재 항목을 공유하는 읽기 전용 스냅샷을 만듭니다. O(조각 수)
+     */
+    public SnapshotList<T> snapshot() {
+        int count = (size + CHUNK_MASK) >>> CHUNK_BITS;
+        Arrays.fill(owned, 0, count, false);
+        sharedSize = Math.max(sharedSize, size);
+        return new SnapshotList<>(Arrays.copyOf(chunks, count), new boolean[count], size, size, true);
+    }
+}
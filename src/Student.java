@@ -0,0 +1,28 @@
+/*
+ * 학생 목록 클래스입니다.
+ */
+class Student {
+    private int id;
+    private String lectureName;
+    private String year;
+    private String name;
+    private String studentId;
+    private int position = -1; // 저장소 학생 목록에서의 위치 (DataRepository가 관리)
+
+    public Student(int id, String lectureName, String year, String name, String studentId) {
+        this.id = id;
+        this.lectureName = lectureName;
+        this.year = year;
+        this.name = name;
+        this.studentId = studentId;
+    }
+
+    public int getId() { return id; }
+    public String getLectureName() { return lectureName; }
+    public String getYear() { return year; }
+    public String getName() { return name; }
+    public String getStudentId() { return studentId; }
+
+    int getPosition() { return position; }
+    void setPosition(int position) { this.position = position; }
+}
@@ -0,0 +1,206 @@
+import javax.swing.*;
+import java.awt.*;
+import java.util.*;
+
+/*
+ * 학생 관리 패널 클래스입니다.
+ * 학생 목록을 표시하고 학생을 추가하거나 삭제할 수 있습니다.
+ */
+class StudentPanel extends JPanel {
+    static final int SEARCH_LIMIT = 200; // 검색 결과로 표시할 최대 학생 수
+
+    private JTable studentTable;
+    private StudentTableModel tableModel;
+    private SearchField searchField; // 이름, 학번 검색
+    private JPanel buttonPanel; // 추가, 삭제 버튼
+    private DataRepository repository;
+
+    /*
+     * 학생 관리 패널의 생성자입니다.
+     * 학생 데이터를 담은 저장소를 전달받습니다.
+     */
+    public StudentPanel(DataRepository repository) {
+        this.repository = repository;
+        setLayout(new BorderLayout());
+
+        // 테이블 생성
+        tableModel = new StudentTableModel(repository.getStudents());
+        studentTable = new JTable(tableModel);
+        add(new JScrollPane(studentTable), BorderLayout.CENTER);
+
+        // 검색 패널 (입력하는 동안 이름, 학번 앞부분으로 검색)
+        JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        searchPanel.add(new JLabel("검색(이름/학번):"));
+        searchField = new SearchField(20, query -> loadStudentsToTable());
+        searchPanel.add(searchField);
+        add(searchPanel, BorderLayout.NORTH);
+
+        // 학생 목록이 바뀌면 바뀐 행만 다시 그립니다. 검색 중이면 검색 결과를 다시 구합니다.
+        repository.addRowListener((list, type, first, last) -> {
+            if (list != DataRepository.STUDENTS) {
+                return;
+            }
+            if (tableModel.isShowingAll()) {
+                tableModel.rowsChanged(type, first, last);
+            } else {
+                loadStudentsToTable();
+            }
+        });
+
+        // 버튼 패널
+        buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JButton addButton = new JButton("학생 추가");
+        JButton deleteButton = new JButton("학생 삭제");
+        buttonPanel.add(addButton);
+        buttonPanel.add(deleteButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        // 초기 데이터 로드
+        loadStudentsToTable();
+
+        // 버튼 이벤트
+        addButton.addActionListener(e -> addStudent());
+        deleteButton.addActionListener(e -> deleteStudent());
+    }
+
+    /*
+     * 학생을 추가하는 메소드입니다.
+     * 강의명, 기준년도, 이름, 학번을 입력받아 학생을 추가합니다.
+     */
+    private void addStudent() {
+        // JDialog 생성
+        JDialog dialog = new JDialog((Frame) null, "학생 추가", true);
+        dialog.setLayout(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5); // 컴포넌트 간의 여백 설정
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+    
+        // 강의명 필드
+        gbc.gridx = 0; gbc.gridy = 0;
+        dialog.add(new JLabel("강의명:"), gbc);
+        JComboBox<String> lectureComboBox = new JComboBox<>();
+        Map<String, String> lectureYearMap = new HashMap<>();
+        for (Lecture lecture : repository.getLectures()) {
+            lectureComboBox.addItem(lecture.getName());
+            lectureYearMap.put(lecture.getName(), lecture.getYear());
+        }
+        gbc.gridx = 1; gbc.gridy = 0;
+        dialog.add(lectureComboBox, gbc);
+    
+        // 기준년도 필드
+        gbc.gridx = 0; gbc.gridy = 1;
+        dialog.add(new JLabel("기준년도:"), gbc);
+        JTextField yearField = new JTextField();
+        yearField.setEditable(false); // 기준년도는 자동으로 설정
+        gbc.gridx = 1; gbc.gridy = 1;
+        dialog.add(yearField, gbc);
+    
+        // 강의 선택 시 기준년도 자동 설정
+        lectureComboBox.addActionListener(e -> {
+            String selectedLecture = (String) lectureComboBox.getSelectedItem();
+            if (selectedLecture != null) {
+                yearField.setText(lectureYearMap.get(selectedLecture));
+            }
+        });
+    
+        if (lectureComboBox.getItemCount() > 0) {
+            lectureComboBox.setSelectedIndex(0);
+        }
+    
+        // 학생 이름 필드
+        gbc.gridx = 0; gbc.gridy = 2;
+        dialog.add(new JLabel("학생 이름:"), gbc);
+        JTextField nameField = new JTextField();
+        gbc.gridx = 1; gbc.gridy = 2;
+        dialog.add(nameField, gbc);
+    
+        // 학번 필드
+        gbc.gridx = 0; gbc.gridy = 3;
+        dialog.add(new JLabel("학번:"), gbc);
+        JTextField studentIdField = new JTextField();
+        gbc.gridx = 1; gbc.gridy = 3;
+        dialog.add(studentIdField, gbc);
+    
+        // 버튼 패널
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton addButton = new JButton("추가");
+        JButton cancelButton = new JButton("취소");
+        buttonPanel.add(addButton);
+        buttonPanel.add(cancelButton);
+    
+        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 2;
+        dialog.add(buttonPanel, gbc);
+    
+        // 버튼 동작
+        addButton.addActionListener(e -> {
+            String lectureName = (String) lectureComboBox.getSelectedItem();
+            String year = yearField.getText().trim();
+            String name = nameField.getText().trim();
+            String studentId = studentIdField.getText().trim();
+    
+            if (lectureName == null || year.isEmpty() || name.isEmpty() || studentId.isEmpty()) {
+                JOptionPane.showMessageDialog(dialog, "모든 필드를 입력해야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            } else {
+                int id = repository.getStudents().size() + 1;
+                Student newStudent = new Student(id, repository.intern(lectureName), repository.intern(year),
+                                                 repository.intern(name), repository.intern(studentId));
+                repository.addStudent(newStudent); // 테이블과 다른 탭의 콤보박스는 행 변경 알림으로 갱신됩니다.
+    
+                JOptionPane.showMessageDialog(dialog, "학생이 추가되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+                dialog.dispose();
+            }
+        });
+    
+        cancelButton.addActionListener(e -> dialog.dispose());
+    
+        dialog.pack();
+        dialog.setLocationRelativeTo(null);
+        dialog.setVisible(true);
+    }
+    
+    /*
+     * 학생을 삭제하는 메소드입니다.
+     * 테이블에서 선택된 학생을 삭제합니다.
+     */
+    private void deleteStudent() {
+        int selectedRow = studentTable.getSelectedRow();
+        if (selectedRow == -1) {
+            JOptionPane.showMessageDialog(this, "삭제할 학생을 선택하세요.", "오류", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        String studentName = tableModel.getStudentAt(selectedRow).getName();
+        Metrics.Operation operation = Metrics.start("student.delete", studentName);
+        int before = repository.getStudents().size() + repository.getGrades().size();
+        repository.removeStudent(studentName); // 테이블과 다른 탭의 콤보박스는 행 변경 알림으로 갱신됩니다.
+        operation.end(before - repository.getStudents().size() - repository.getGrades().size(), 0);
+
+        JOptionPane.showMessageDialog(this, "학생과 관련된 성적 데이터가 삭제되었습니다.", "성공", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    /*
+     * 테이블에 학생 목록을 로드하는 메소드입니다.
+     * 테이블 모델은 학생 목록을 직접 읽으므로 변경 사실만 알립니다.
+     * 검색어가 있으면 이름이나 학번이 검색어로 시작하는 학생을 최대 SEARCH_LIMIT명 표시합니다.
+     */
+    public void loadStudentsToTable() {
+        String query = searchField.getQuery();
+        Metrics.Operation operation = Metrics.start("table.students", query.isEmpty() ? null : query);
+        if (query.isEmpty()) {
+            tableModel.showAll();
+        } else {
+            tableModel.showStudents(repository.searchStudents(query, null, SEARCH_LIMIT));
+        }
+        operation.end(tableModel.getRowCount(), 0);
+    }
+
+    /*
+     * 학생 추가, 삭제 버튼을 사용할 수 있는지 설정합니다.
+     * 파일을 불러오는 동안에는 변경이 저널에 기록되지 않으므로 메인 애플리케이션이 버튼을 비활성화합니다.
+     */
+    public void setEditable(boolean editable) {
+        for (Component button : buttonPanel.getComponents()) {
+            button.setEnabled(editable);
+        }
+    }
+}
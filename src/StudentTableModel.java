@@ -0,0 +1,84 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/*
+ * 학생 테이블 모델 클래스입니다.
+ * 학생 목록을 복사하지 않고 getValueAt 호출 시 직접 읽어 표시합니다.
+ * 검색 중에는 검색 결과 목록만 표시합니다.
+ */
+class StudentTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"ID", "강의명", "기준년도", "이름", "학번"};
+    private final List<Student> allStudents;
+    private List<Student> students; // 표시 중인 목록 (전체 또는 검색 결과)
+
+    public StudentTableModel(List<Student> students) {
+        this.allStudents = students;
+        this.students = students;
+    }
+
+    /*
+     * 전체 학생 목록을 표시하도록 설정합니다.
+     */
+    public void showAll() {
+        this.students = allStudents;
+        fireTableDataChanged();
+    }
+
+    /*
+     * students에 있는 학생만 표시하도록 설정합니다.
+     */
+    public void showStudents(List<Student> students) {
+        this.students = students;
+        fireTableDataChanged();
+    }
+
+    /*
+     * 검색 결과가 아닌 전체 목록을 표시 중인지 여부입니다.
+     */
+    public boolean isShowingAll() {
+        return students == allStudents;
+    }
+
+    /*
+     * 저장소의 행 변경(DataRepository.RowListener)을 테이블 이벤트로 알립니다. 전체 목록을 표시 중일 때만 사용합니다.
+     */
+    public void rowsChanged(int type, int first, int last) {
+        switch (type) {
+            case DataRepository.INSERTED: fireTableRowsInserted(first, last); break;
+            case DataRepository.UPDATED: fireTableRowsUpdated(first, last); break;
+            case DataRepository.DELETED: fireTableRowsDeleted(first, last); break;
+            default: fireTableDataChanged();
+        }
+    }
+
+    public Student getStudentAt(int row) {
+        return students.get(row);
+    }
+
+    @Override
+    public int getRowCount() { return students.size(); }
+
+    @Override
+    public int getColumnCount() { return COLUMNS.length; }
+
+    @Override
+    public String getColumnName(int column) { return COLUMNS[column]; }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return column == 0 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Student student = students.get(row);
+        switch (column) {
+            case 0: return student.getId();
+            case 1: return student.getLectureName();
+            case 2: return student.getYear();
+            case 3: return student.getName();
+            case 4: return student.getStudentId();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 문자열에 정수 번호를 매기는 사전 클래스입니다.
+ * 같은 문자열은 한 번만 저장되며, 번호는 0부터 추가된 순서대로 부여되고 바뀌지 않습니다.
+ * 번호 부여(code)는 동기화되어 있고, 번호로 문자열을 찾는 것(symbol)은
+ * 이미 부여된 번호에 대해 잠금 없이 어느 스레드에서든 호출할 수 있습니다.
+ */
+class SymbolTable {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private volatile String[] symbols = new String[64];
+    private volatile int size;
+
+    /*
+     * 문자열의 번호를 반환합니다. 처음 보는 문자열이면 새 번호를 부여합니다.
+     */
+    public synchronized int code(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        int next = size;
+        String[] current = symbols;
+        if (next == current.length) {
+            current = Arrays.copyOf(current, next * 2);
+        }
+        current[next] = value;
+        symbols = current;
+        codes.put(value, next);
+        size = next + 1;
+        return next;
+    }
+
+    /*
+     * 같은 내용의 대표 문자열을 반환합니다. 처음 보는 문자열이면 그대로 등록합니다.
+     * 반환된 문자열끼리는 == 로 비교할 수 있습니다.
+     */
+    public String intern(String value) {
+        return symbol(code(value));
+    }
+
+    /*
+     * 문자열의 번호를 반환합니다. 등록되지 않은 문자열이면 -1을 반환합니다.
+     */
+    public synchronized int find(String value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /*
+     * 번호에 해당하는 문자열을 반환합니다.
+     */
+    public String symbol(int code) {
+        return symbols[code];
+    }
+
+    public int size() {
+        return size;
+    }
+}